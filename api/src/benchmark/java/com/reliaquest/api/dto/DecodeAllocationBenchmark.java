@@ -0,0 +1,93 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bytes allocated and time taken per decoded roster row: the reflective binding to {@link EmployeeDto} plus the copy
+ * into {@link Employee} that {@link UpstreamEmployeeDeserializer} replaced, against the streaming deserializer, on the
+ * same body. Allocation is read from the JVM's per-thread counter, so run it on a HotSpot JVM:
+ *
+ *   ./gradlew :api:decodeBenchmark [-Prows=2000]
+ */
+public final class DecodeAllocationBenchmark {
+
+    private static final int WARM_UP = 200;
+    private static final int MEASURED = 50;
+
+    // As configured for RestTemplate's converter by Spring's Jackson2ObjectMapperBuilder.
+    private static final ObjectMapper MAPPER =
+            new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private DecodeAllocationBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        final int rows = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final byte[] body = roster(rows);
+
+        for (int i = 0; i < WARM_UP; i++) {
+            reflective(body);
+            streaming(body);
+        }
+        report("reflective + mapping", rows, threads, () -> reflective(body));
+        report("streaming", rows, threads, () -> streaming(body));
+    }
+
+    private static List<Employee> streaming(byte[] body) throws Exception {
+        return MAPPER.readValue(body, EmployeeListResponse.class).data;
+    }
+
+    private static List<Employee> reflective(byte[] body) throws Exception {
+        final ServerResponse<List<EmployeeDto>> response = MAPPER.readValue(body, new TypeReference<>() {});
+        return response.data.stream()
+                .map(dto -> Employee.builder()
+                        .id(dto.id != null ? dto.id.toString() : null)
+                        .name(dto.name)
+                        .salary(dto.salary)
+                        .age(dto.age)
+                        .title(dto.title)
+                        .email(dto.email)
+                        .build())
+                .toList();
+    }
+
+    private static void report(String name, int rows, com.sun.management.ThreadMXBean threads, Decode decode)
+            throws Exception {
+        final long thread = Thread.currentThread().getId();
+        final long bytesBefore = threads.getThreadAllocatedBytes(thread);
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED; i++) {
+            decode.run();
+        }
+        final long nanos = (System.nanoTime() - start) / MEASURED;
+        final long bytes = (threads.getThreadAllocatedBytes(thread) - bytesBefore) / MEASURED;
+        System.out.printf(
+                "%-22s %d rows: %,d B/row, %,d ns/row%n", name, rows, bytes / rows, nanos / rows);
+    }
+
+    private static byte[] roster(int rows) {
+        final var json = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("""
+                    {"id":"%s","employee_name":"Employee %d","employee_salary":%d,"employee_age":%d,\
+                    "employee_title":"Engineer","employee_email":"employee%d@company.com"}"""
+                    .formatted(UUID.randomUUID(), i, 40_000 + i * 37, 20 + i % 45, i));
+        }
+        return json.append("],\"status\":\"ok\"}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface Decode {
+        Object run() throws Exception;
+    }
+}
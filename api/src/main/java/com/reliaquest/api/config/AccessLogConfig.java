@@ -0,0 +1,25 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.web.AccessLogFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class AccessLogConfig {
+
+    /**
+     * Registered first, so the logged duration covers load shedding and bulkheads as well as the handler.
+     */
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(
+            @Value("${api.access-log.enabled:true}") boolean enabled,
+            @Value("${api.access-log.sample-every:100}") int sampleEvery) {
+        final var registration = new FilterRegistrationBean<>(new AccessLogFilter(sampleEvery));
+        registration.setEnabled(enabled);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -1,7 +1,15 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.diagnostics.RecordingHttpInterceptor;
+import com.reliaquest.api.diagnostics.RecordingJacksonHttpMessageConverter;
+import com.reliaquest.api.web.UpstreamConnectionBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 
@@ -9,10 +17,26 @@ import org.springframework.http.client.SimpleClientHttpRequestFactory;
 public class ApiConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(
+            @Value("${api.upstream.connections.roster:16}") int rosterConnections,
+            @Value("${api.upstream.connections.point-read:48}") int pointReadConnections,
+            @Value("${api.upstream.connections.write:16}") int writeConnections,
+            @Value("${api.upstream.connections.max-wait:100ms}") Duration maxWait,
+            MeterRegistry meterRegistry) {
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
         factory.setConnectTimeout(3000);
         factory.setReadTimeout(5000);
-        return new RestTemplate(factory);
+        RestTemplate restTemplate = new RestTemplate(factory);
+        // Connections per bulkhead class, so roster fan-out cannot starve point reads and writes.
+        restTemplate.getInterceptors().add(new UpstreamConnectionBudget(
+                rosterConnections, pointReadConnections, writeConnections, maxWait, meterRegistry));
+        // Flight recorder events for upstream calls and their decoding (see the diagnostics package).
+        restTemplate.getInterceptors().add(new RecordingHttpInterceptor());
+        restTemplate
+                .getMessageConverters()
+                .replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter
+                        ? new RecordingJacksonHttpMessageConverter(Jackson2ObjectMapperBuilder.json().build())
+                        : converter);
+        return restTemplate;
     }
 }
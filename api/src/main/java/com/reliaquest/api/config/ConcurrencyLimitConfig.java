@@ -0,0 +1,47 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.web.AdaptiveConcurrencyLimiter;
+import com.reliaquest.api.web.ConcurrencyLimitInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Slf4j
+@Configuration
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final boolean enabled;
+    private final ConcurrencyLimitInterceptor interceptor;
+
+    public ConcurrencyLimitConfig(
+            @Value("${api.concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${api.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${api.concurrency-limit.min-limit:4}") int minLimit,
+            @Value("${api.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${api.concurrency-limit.reserved-for-point-requests:0.25}") double reserved,
+            @Value("${api.concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.enabled = enabled;
+        this.interceptor = enabled
+                ? new ConcurrencyLimitInterceptor(
+                        new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, reserved),
+                        retryAfterSeconds,
+                        meterRegistry.getIfAvailable(SimpleMeterRegistry::new))
+                : null;
+        if (enabled) {
+            log.info("Adaptive concurrency limit enabled: initial={} min={} max={}", initialLimit, minLimit, maxLimit);
+        }
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (enabled) {
+            registry.addInterceptor(interceptor).addPathPatterns("/api/v1/employee/**");
+        }
+    }
+}
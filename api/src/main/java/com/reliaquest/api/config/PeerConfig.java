@@ -0,0 +1,42 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.service.PeerDirectory;
+import com.reliaquest.api.web.SharedSecretInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/*
+ * The node-to-node endpoints share the public port, so they only answer peers presenting api.peers.token. A standalone
+ * node has no peers and answers none of them.
+ */
+@Configuration
+public class PeerConfig implements WebMvcConfigurer {
+
+    private final HandlerInterceptor interceptor;
+
+    public PeerConfig(ObjectProvider<PeerDirectory> peerDirectory) {
+        final var peers = peerDirectory.getIfAvailable(PeerDirectory::standalone);
+        this.interceptor = peers.isEnabled()
+                ? new SharedSecretInterceptor(PeerDirectory.TOKEN_HEADER, peers.token())
+                : new NoPeers();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/internal/**");
+    }
+
+    private static final class NoPeers implements HandlerInterceptor {
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.web.SharedSecretInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/*
+ * Recordings hold request URLs and roster data, so /admin/recordings only answers callers presenting
+ * api.recordings.token in the X-Admin-Token header. Enabling recordings without a token fails startup.
+ */
+@Configuration
+@ConditionalOnProperty(name = "api.recordings.enabled", havingValue = "true")
+public class RecordingConfig implements WebMvcConfigurer {
+
+    public static final String TOKEN_HEADER = "X-Admin-Token";
+
+    private final SharedSecretInterceptor interceptor;
+
+    public RecordingConfig(@Value("${api.recordings.token:}") String token) {
+        this.interceptor = new SharedSecretInterceptor(TOKEN_HEADER, token);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/admin/recordings", "/admin/recordings/**");
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.web.BulkheadQueueDepth;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ResilienceConfig {
+
+    /*
+     * resilience4j publishes bulkhead capacity gauges itself; this adds a rejection counter per bulkhead
+     * (api.bulkhead.rejected{name}) so shedding is visible next to them, and takes calls out of the queue depth
+     * gauge (BulkheadQueueDepth) once they are permitted or rejected.
+     */
+    @Bean
+    public RegistryEventConsumer<Bulkhead> bulkheadRejectionMetrics(
+            MeterRegistry meterRegistry, BulkheadQueueDepth queueDepth) {
+        return new RegistryEventConsumer<>() {
+            @Override
+            public void onEntryAddedEvent(EntryAddedEvent<Bulkhead> event) {
+                countRejections(event.getAddedEntry());
+            }
+
+            @Override
+            public void onEntryRemovedEvent(EntryRemovedEvent<Bulkhead> event) {}
+
+            @Override
+            public void onEntryReplacedEvent(EntryReplacedEvent<Bulkhead> event) {
+                countRejections(event.getNewEntry());
+            }
+
+            private void countRejections(Bulkhead bulkhead) {
+                final var rejected = meterRegistry.counter("api.bulkhead.rejected", "name", bulkhead.getName());
+                bulkhead.getEventPublisher()
+                        .onCallRejected(ignored -> {
+                            rejected.increment();
+                            queueDepth.leave(bulkhead.getName());
+                        })
+                        .onCallPermitted(ignored -> queueDepth.leave(bulkhead.getName()));
+            }
+        };
+    }
+}
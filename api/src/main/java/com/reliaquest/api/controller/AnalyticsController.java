@@ -0,0 +1,42 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.SalaryReport;
+import com.reliaquest.api.service.EmployeeClient;
+import com.reliaquest.api.service.SalaryAnalytics;
+import com.reliaquest.api.web.Bulkheads;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Roster analytics for dashboards, answered from {@link SalaryAnalytics} instead of shipping the roster to the client.
+ * The roster is only refreshed when the held one is older than {@code api.analytics.max-staleness}.
+ */
+@RestController
+@RequestMapping("/api/v1/analytics")
+public class AnalyticsController {
+
+    private final EmployeeClient employeeClient;
+    private final SalaryAnalytics salaryAnalytics;
+    private final Duration maxStaleness;
+
+    public AnalyticsController(
+            EmployeeClient employeeClient,
+            SalaryAnalytics salaryAnalytics,
+            @Value("${api.analytics.max-staleness:5s}") Duration maxStaleness) {
+        this.employeeClient = employeeClient;
+        this.salaryAnalytics = salaryAnalytics;
+        this.maxStaleness = maxStaleness;
+    }
+
+    @GetMapping("/salary")
+    @Bulkhead(name = Bulkheads.ROSTER)
+    public ResponseEntity<SalaryReport> getSalaryReport() {
+        employeeClient.refreshIfOlderThan(maxStaleness);
+        return ResponseEntity.ok(salaryAnalytics.report());
+    }
+}
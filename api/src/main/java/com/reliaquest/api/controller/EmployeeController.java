@@ -3,13 +3,21 @@ package com.reliaquest.api.controller;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeClient;
+import com.reliaquest.api.service.EmployeeCreateBatcher;
+import com.reliaquest.api.service.EmployeeLookupBatcher;
+import com.reliaquest.api.service.EmployeeNameIndex;
+import com.reliaquest.api.service.RosterAggregates;
+import com.reliaquest.api.service.RosterQueries;
+import com.reliaquest.api.exception.AmbiguousEmployeeNameException;
 import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.web.Bulkheads;
+import com.reliaquest.api.web.ShedFirst;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import java.util.UUID;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -19,19 +27,28 @@ import org.springframework.web.bind.annotation.RestController;
 import jakarta.validation.Validator;
 import jakarta.validation.ConstraintViolationException;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class EmployeeController implements IEmployeeController<Employee, CreateEmployeeInput> {
 
     private final EmployeeClient employeeClient;
+    private final EmployeeCreateBatcher employeeCreateBatcher;
+    private final EmployeeLookupBatcher employeeLookupBatcher;
+    private final EmployeeNameIndex employeeNameIndex;
+    private final RosterQueries rosterQueries;
     private final Validator validator;
 
+    @ShedFirst
+    @Bulkhead(name = Bulkheads.ROSTER)
     public ResponseEntity<List<Employee>> getAllEmployees() {
         return ResponseEntity.ok(employeeClient.getAll());
     }
 
     @Override
+    @ShedFirst
+    @Bulkhead(name = Bulkheads.ROSTER)
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable("searchString") String searchString) {
         List<Employee> allEmployees = employeeClient.getAll();  
 
@@ -39,15 +56,11 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
             return ResponseEntity.ok(allEmployees);
         }
 
-        List<Employee> filteredEmployees = allEmployees.stream()
-                .filter(e -> e.getName() != null &&
-                        e.getName().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(filteredEmployees);
+        return ResponseEntity.ok(RosterAggregates.nameContains(allEmployees, searchString));
     }
 
     @Override
+    @Bulkhead(name = Bulkheads.POINT_READ)
     public ResponseEntity<Employee> getEmployeeById(@PathVariable("id") String id) {
         try {
             UUID.fromString(id);
@@ -55,40 +68,33 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
             throw new IllegalArgumentException("Invalid employee id format");
         }
 
-        Employee employee = employeeClient.getById(id)
+        Employee employee = employeeLookupBatcher.getById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found: " + id));
         return ResponseEntity.ok(employee);
     }
 
     @Override
+    @ShedFirst
+    @Bulkhead(name = Bulkheads.ROSTER)
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
-        final var all = employeeClient.getAll();
-        final var max = all.stream()
-                .map(Employee::getSalary)
-                .filter(s -> s != null)
-                .max(Integer::compareTo)
-                .orElse(0);
-        return ResponseEntity.ok(max);
+        return ResponseEntity.ok(rosterQueries.maxSalary());
     }
 
     @Override
+    @ShedFirst
+    @Bulkhead(name = Bulkheads.ROSTER)
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
-        final var topSalaryEmps = employeeClient.getAll().stream()
-                .sorted(Comparator.comparing(Employee::getSalary, Comparator.nullsLast(Comparator.naturalOrder()))
-                        .reversed())
-                .limit(10)
-                .map(Employee::getName)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(topSalaryEmps);
+        return ResponseEntity.ok(rosterQueries.topEarnerNames());
     }
 
     @Override
+    @Bulkhead(name = Bulkheads.WRITE)
     public ResponseEntity<Employee> createEmployee(@RequestBody CreateEmployeeInput employeeDetailsInput) {
         var violations = validator.validate(employeeDetailsInput);
         if (!violations.isEmpty()) {
             throw new ConstraintViolationException(violations);
         }
-        Employee created = employeeClient.create(employeeDetailsInput);
+        Employee created = employeeCreateBatcher.create(employeeDetailsInput);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .header("X-Message", "Employee successfully added: " + created.getName())
                 .body(created);
@@ -97,6 +103,7 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     
 
     @Override
+    @Bulkhead(name = Bulkheads.WRITE)
     public ResponseEntity<String> deleteEmployeeById(@PathVariable("id") String id) {
         try {
             UUID.fromString(id);
@@ -104,14 +111,31 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
             throw new IllegalArgumentException("Employee not found");
         }
 
-        Optional<Employee> employee = employeeClient.getById(id);
-        if (employee.isEmpty()) {
-            throw new ResourceNotFoundException("Employee not found");
+        // The upstream deletes by name; a known id->name mapping saves the by-id round trip, but only while the owning
+        // shard's roster is fresh and still lists the id. Otherwise the id may be gone and its name taken by someone
+        // the index has not seen yet, so ask the upstream.
+        Optional<String> knownName = employeeNameIndex.nameOf(id).filter(ignored -> employeeClient.holdsFresh(id));
+        String name = knownName.orElseGet(() -> employeeClient
+                .getById(id)
+                .map(Employee::getName)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found")));
+
+        // The upstream removes the first match by name on the owning shard, which could be someone else: refuse.
+        int shard = employeeClient.shardIndexOf(id);
+        int sameName = employeeNameIndex.countWithName(name, other -> employeeClient.shardIndexOf(other) == shard);
+        if (sameName > 1) {
+            throw new AmbiguousEmployeeNameException(name, sameName);
         }
-        boolean isSuccess = employeeClient.deleteByName(employee.get().getName());
+
+        boolean isSuccess = employeeClient.deleteById(id, name);
+        employeeNameIndex.evict(id);
         if (!isSuccess) {
+            if (knownName.isPresent()) {
+                // Our mapping was stale: the employee is already gone upstream.
+                throw new ResourceNotFoundException("Employee not found");
+            }
             return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
         }
-        return ResponseEntity.ok(employee.get().getName() + " deleted successfully. ");
+        return ResponseEntity.ok(name + " deleted successfully. ");
     }
 }
@@ -0,0 +1,66 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.ServerResponse;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.service.EmployeeClient;
+import com.reliaquest.api.service.PeerDirectory;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Node-to-node endpoints for roster sharing (see {@link PeerDirectory}). A follower replicates each shard's roster from
+ * the leader in the upstream's own wire format, ETag and roster version headers included, so the follower's
+ * conditional fetch works against either and an unchanged roster costs a 304.
+ */
+@RestController
+@RequestMapping("/internal/v1")
+@RequiredArgsConstructor
+public class PeerController {
+
+    private final EmployeeClient employeeClient;
+    private final PeerDirectory peerDirectory;
+
+    @GetMapping("/peer")
+    public ResponseEntity<Map<String, String>> getPeer() {
+        return ResponseEntity.ok(Map.of("self", peerDirectory.self(), "leader", peerDirectory.leader()));
+    }
+
+    @GetMapping("/roster/shards/{index}")
+    public ResponseEntity<ServerResponse<List<EmployeeDto>>> getRosterShard(
+            @PathVariable("index") int index,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (index < 0 || index >= employeeClient.shardCount()) {
+            throw new ResourceNotFoundException("No roster shard " + index);
+        }
+        final var snapshot = employeeClient.snapshotForPeers(index);
+        // Same validator format as the upstream, so it stays valid if this follower later becomes the leader.
+        final var etag = snapshot.isVersioned()
+                ? "\"" + snapshot.epoch() + "-" + snapshot.version() + "\""
+                : snapshot.etag();
+        if (etag != null && etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        final var response = ResponseEntity.ok();
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        if (snapshot.isVersioned()) {
+            response.header(EmployeeClient.ROSTER_EPOCH_HEADER, snapshot.epoch())
+                    .header(EmployeeClient.ROSTER_VERSION_HEADER, String.valueOf(snapshot.version()));
+        }
+        final var body = new ServerResponse<List<EmployeeDto>>();
+        body.setData(snapshot.employees().stream().map(EmployeeDto::from).toList());
+        body.setStatus("Successfully processed request.");
+        return response.body(body);
+    }
+}
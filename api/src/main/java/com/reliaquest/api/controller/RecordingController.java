@@ -0,0 +1,88 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.diagnostics.FlightRecordings;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Starts, stops and downloads JDK flight recordings of this node (see {@link FlightRecordings}). The api's own events
+ * are under {@code com.reliaquest.api.*} in the recording.
+ */
+@RestController
+@RequestMapping("/admin/recordings")
+@ConditionalOnProperty(name = "api.recordings.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class RecordingController {
+
+    private final FlightRecordings flightRecordings;
+
+    @GetMapping
+    public ResponseEntity<List<FlightRecordings.RecordingInfo>> list() {
+        return ResponseEntity.ok(flightRecordings.list());
+    }
+
+    @PostMapping
+    public ResponseEntity<FlightRecordings.RecordingInfo> start(
+            @RequestParam(value = "settings", defaultValue = "default") String settings,
+            @RequestParam(value = "name", required = false) String name) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(flightRecordings.start(settings, name));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<FlightRecordings.RecordingInfo> get(@PathVariable("id") long id) {
+        return ResponseEntity.ok(flightRecordings.get(id));
+    }
+
+    @PostMapping("/{id}/stop")
+    public ResponseEntity<FlightRecordings.RecordingInfo> stop(@PathVariable("id") long id) {
+        return ResponseEntity.ok(flightRecordings.stop(id));
+    }
+
+    @GetMapping("/{id}/download")
+    public ResponseEntity<StreamingResponseBody> download(@PathVariable("id") long id) {
+        final var file = flightRecordings.dump(id);
+        final StreamingResponseBody body = out -> copyAndDelete(file, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename("recording-" + id + ".jfr")
+                                .build()
+                                .toString())
+                .body(body);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> close(@PathVariable("id") long id) {
+        flightRecordings.close(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static void copyAndDelete(Path file, OutputStream out) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            in.transferTo(out);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Filtering the roster by a name fragment, without the roster fetch. The fragment itself is not recorded.
+ */
+@Name("com.reliaquest.api.EmployeeSearch")
+@Label("Employee Name Search")
+@Category({"Employee API", "Roster"})
+public class EmployeeSearchEvent extends Event {
+
+    @Label("Query Length")
+    public int queryLength;
+
+    @Label("Roster Size")
+    public int rosterSize;
+
+    @Label("Matches")
+    public int matches;
+}
@@ -0,0 +1,141 @@
+package com.reliaquest.api.diagnostics;
+
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.exception.UnknownRecordingSettingsException;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Flight recordings started and stopped at runtime ({@code /admin/recordings}). With the JDK's {@code default} settings
+ * a recording costs around 1% and can stay on; {@code profile} samples more and is meant for short captures. Each
+ * recording keeps at most {@code max-age} and {@code max-size} of data, so a forgotten one cannot fill the disk. Off
+ * unless {@code api.recordings.enabled}, as recordings can hold request URLs and roster data.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "api.recordings.enabled", havingValue = "true")
+public class FlightRecordings {
+
+    public record RecordingInfo(
+            long id, String name, String settings, String state, Instant startTime, Duration duration, long bytes) {}
+
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final Map<Long, String> settingsById = new ConcurrentHashMap<>();
+
+    public FlightRecordings(
+            @Value("${api.recordings.max-age:1h}") Duration maxAge,
+            @Value("${api.recordings.max-size:250MB}") DataSize maxSize) {
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+    }
+
+    public RecordingInfo start(String settings, String name) {
+        final Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new UnknownRecordingSettingsException(settings);
+        }
+        final var recording = new Recording(configuration);
+        recording.setName(name == null || name.isBlank() ? "api-" + recording.getId() : name);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.start();
+        settingsById.put(recording.getId(), settings);
+        log.info(
+                "Started flight recording {} ({}) with '{}' settings",
+                recording.getId(),
+                recording.getName(),
+                settings);
+        return info(recording);
+    }
+
+    public List<RecordingInfo> list() {
+        return ownRecordings().stream().map(this::info).toList();
+    }
+
+    public RecordingInfo get(long id) {
+        return info(find(id));
+    }
+
+    public RecordingInfo stop(long id) {
+        final var recording = find(id);
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped flight recording {}", id);
+        }
+        return info(recording);
+    }
+
+    /**
+     * Writes what the recording holds so far (it may still be running) to a temporary file the caller must delete.
+     */
+    public Path dump(long id) {
+        final var recording = find(id);
+        try {
+            final var file = Files.createTempFile("api-recording-" + id + "-", ".jfr");
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void close(long id) {
+        find(id).close();
+        settingsById.remove(id);
+        log.info("Closed flight recording {}", id);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ownRecordings().forEach(Recording::close);
+    }
+
+    private Recording find(long id) {
+        return ownRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Recording not found: " + id));
+    }
+
+    // Only recordings started here: a JFR started with -XX:StartFlightRecording or jcmd is not ours to stop or close.
+    private List<Recording> ownRecordings() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> settingsById.containsKey(recording.getId()))
+                .toList();
+    }
+
+    private RecordingInfo info(Recording recording) {
+        final var start = recording.getStartTime();
+        final var stop = recording.getStopTime();
+        return new RecordingInfo(
+                recording.getId(),
+                recording.getName(),
+                settingsById.get(recording.getId()),
+                recording.getState().name(),
+                start,
+                start == null ? Duration.ZERO : Duration.between(start, stop == null ? Instant.now() : stop),
+                recording.getSize());
+    }
+}
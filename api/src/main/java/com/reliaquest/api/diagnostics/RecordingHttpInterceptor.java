@@ -0,0 +1,39 @@
+package com.reliaquest.api.diagnostics;
+
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Emits an {@link UpstreamRequestEvent} per RestTemplate call. While no recording enables the event, a call only pays
+ * for the enabled check.
+ */
+public class RecordingHttpInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        final var event = new UpstreamRequestEvent();
+        if (!event.isEnabled()) {
+            return execution.execute(request, body);
+        }
+        event.begin();
+        event.status = -1;
+        event.bytes = -1;
+        try {
+            final var response = execution.execute(request, body);
+            event.status = response.getStatusCode().value();
+            event.bytes = response.getHeaders().getContentLength();
+            return response;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = request.getMethod().name();
+                event.url = request.getURI().toString();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.diagnostics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Jackson converter that emits an {@link UpstreamDecodeEvent} around each response body it reads, so body transfer and
+ * decoding show apart from the {@link UpstreamRequestEvent} that ends at the response headers.
+ */
+public class RecordingJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public RecordingJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        final var event = new UpstreamDecodeEvent();
+        if (!event.isEnabled()) {
+            return super.read(type, contextClass, inputMessage);
+        }
+        event.begin();
+        try {
+            return super.read(type, contextClass, inputMessage);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.type = type.getTypeName();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Selecting the top {@code k} earners of one roster (shard).
+ */
+@Name("com.reliaquest.api.TopEarners")
+@Label("Top Earners")
+@Category({"Employee API", "Roster"})
+public class TopEarnersEvent extends Event {
+
+    @Label("Roster Size")
+    public int rosterSize;
+
+    @Label("K")
+    public int k;
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Time spent waiting before retrying the upstream, e.g. after a 429.
+ */
+@Name("com.reliaquest.api.UpstreamBackoff")
+@Label("Upstream Backoff")
+@Category({"Employee API", "Upstream"})
+public class UpstreamBackoffEvent extends Event {
+
+    @Label("Attempt")
+    public int attempt;
+
+    @Label("Rate Limited")
+    public boolean rateLimited;
+
+    @Label("Cause")
+    public String cause;
+}
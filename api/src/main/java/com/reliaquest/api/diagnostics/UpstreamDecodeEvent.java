@@ -0,0 +1,18 @@
+package com.reliaquest.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Reading and decoding one upstream response body into the api's types.
+ */
+@Name("com.reliaquest.api.UpstreamDecode")
+@Label("Upstream Response Decode")
+@Category({"Employee API", "Upstream"})
+public class UpstreamDecodeEvent extends Event {
+
+    @Label("Target Type")
+    public String type;
+}
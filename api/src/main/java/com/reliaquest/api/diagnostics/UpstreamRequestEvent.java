@@ -0,0 +1,34 @@
+package com.reliaquest.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One call to the upstream (or a peer), from sending the request until the response headers are in. Reading and
+ * decoding the body is {@link UpstreamDecodeEvent}.
+ */
+@Name("com.reliaquest.api.UpstreamRequest")
+@Label("Upstream Request")
+@Category({"Employee API", "Upstream"})
+@Description("HTTP request to the upstream employee api or a peer node")
+public class UpstreamRequestEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("URL")
+    public String url;
+
+    @Label("Status")
+    @Description("HTTP status, or -1 when the request failed without a response")
+    public int status;
+
+    @Label("Response Size")
+    @Description("Content-Length of the response, or -1 when not announced")
+    @DataAmount
+    public long bytes;
+}
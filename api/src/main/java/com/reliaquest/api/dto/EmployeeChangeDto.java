@@ -0,0 +1,14 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.reliaquest.api.model.Employee;
+
+public class EmployeeChangeDto {
+    public long version;
+
+    /** {@code CREATED} or {@code DELETED}. */
+    public String type;
+
+    @JsonDeserialize(using = UpstreamEmployeeDeserializer.class)
+    public Employee employee;
+}
@@ -0,0 +1,10 @@
+package com.reliaquest.api.dto;
+
+import java.util.List;
+
+public class EmployeeChangesDto {
+    public String epoch;
+    public long version;
+    public boolean resync;
+    public List<EmployeeChangeDto> changes;
+}
@@ -1,8 +1,13 @@
 package com.reliaquest.api.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.reliaquest.api.model.Employee;
 import java.util.UUID;
 
+/**
+ * Upstream wire form of an employee. The api only writes it (to its peers); upstream responses are decoded straight
+ * into {@link Employee} by {@link UpstreamEmployeeDeserializer}.
+ */
 public class EmployeeDto {
     public UUID id;
 
@@ -20,6 +25,18 @@ public class EmployeeDto {
 
     @JsonProperty("employee_email")
     public String email;
-}
-
 
+    /**
+     * The upstream wire form of {@code employee}, used when this api serves the roster to its peers.
+     */
+    public static EmployeeDto from(Employee employee) {
+        EmployeeDto dto = new EmployeeDto();
+        dto.id = employee.getId() != null ? UUID.fromString(employee.getId()) : null;
+        dto.name = employee.getName();
+        dto.salary = employee.getSalary();
+        dto.age = employee.getAge();
+        dto.title = employee.getTitle();
+        dto.email = employee.getEmail();
+        return dto;
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+
+/**
+ * Upstream response carrying a list of employees, each decoded by {@link UpstreamEmployeeDeserializer}.
+ */
+public class EmployeeListResponse extends ServerResponse<List<Employee>> {
+
+    @Override
+    @JsonDeserialize(contentUsing = UpstreamEmployeeDeserializer.class)
+    public void setData(List<Employee> data) {
+        super.setData(data);
+    }
+}
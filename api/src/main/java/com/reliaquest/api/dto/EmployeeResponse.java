@@ -0,0 +1,16 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.reliaquest.api.model.Employee;
+
+/**
+ * Upstream response carrying one employee, decoded by {@link UpstreamEmployeeDeserializer}.
+ */
+public class EmployeeResponse extends ServerResponse<Employee> {
+
+    @Override
+    @JsonDeserialize(using = UpstreamEmployeeDeserializer.class)
+    public void setData(Employee data) {
+        super.setData(data);
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+
+/**
+ * Decodes one upstream employee ({@code id}, {@code employee_name}, ...) straight into the api's {@link Employee} in a
+ * single pass over the tokens: no {@link EmployeeDto}, no {@code UUID} round trip for the id and no builder, so a row
+ * costs the {@code Employee} and its field values only. Unknown fields are skipped, as with the default binding.
+ */
+public class UpstreamEmployeeDeserializer extends StdDeserializer<Employee> {
+
+    public UpstreamEmployeeDeserializer() {
+        super(Employee.class);
+    }
+
+    @Override
+    public Employee deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (Employee) ctxt.handleUnexpectedToken(Employee.class, p);
+        }
+        final Employee employee = new Employee();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            final String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "id" -> employee.setId(text(p, ctxt));
+                case "employee_name" -> employee.setName(text(p, ctxt));
+                case "employee_salary" -> employee.setSalary(integer(p, ctxt));
+                case "employee_age" -> employee.setAge(integer(p, ctxt));
+                case "employee_title" -> employee.setTitle(text(p, ctxt));
+                case "employee_email" -> employee.setEmail(text(p, ctxt));
+                default -> p.skipChildren();
+            }
+        }
+        return employee;
+    }
+
+    private static String text(JsonParser p, DeserializationContext ctxt) throws IOException {
+        final JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            // An object or array where a string belongs fails as it would with the default binding, instead of
+            // leaving its children to be read as fields of the employee.
+            return (String) ctxt.handleUnexpectedToken(String.class, p);
+        }
+        return p.getValueAsString();
+    }
+
+    private Integer integer(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NUMBER_INT
+                ? Integer.valueOf(p.getIntValue())
+                // Nulls, numeric strings and the like get the default binding's coercion rules.
+                : _parseInteger(p, ctxt, Integer.class);
+    }
+}
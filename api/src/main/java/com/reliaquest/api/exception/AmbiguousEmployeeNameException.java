@@ -0,0 +1,19 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Thrown instead of deleting when the upstream's delete-by-name could remove a different employee than the one asked
+ * for. Mapped to 409.
+ */
+public class AmbiguousEmployeeNameException extends RuntimeException {
+
+    private final int count;
+
+    public AmbiguousEmployeeNameException(String name, int count) {
+        super(count + " employees are named '" + name + "'");
+        this.count = count;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
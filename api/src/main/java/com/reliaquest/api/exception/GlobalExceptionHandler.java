@@ -1,10 +1,13 @@
 package com.reliaquest.api.exception;
 
 import com.reliaquest.api.exception.ErrorResponse;
+import com.reliaquest.api.web.ConcurrencyLimitInterceptor;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import java.time.OffsetDateTime;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -19,11 +22,12 @@ import jakarta.validation.ConstraintViolationException;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Client errors are on the access log (web.AccessLogFilter) already, so their handlers only log at debug.
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFound(ResourceNotFoundException ex, HttpServletRequest req) {
-        logger.info("Resource not found: path={} message={}", req.getRequestURI(), ex.getMessage());
+        logger.debug("Resource not found: path={} message={}", req.getRequestURI(), ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(new ErrorResponse(
                         ex.getMessage(),
@@ -32,9 +36,34 @@ public class GlobalExceptionHandler {
                         HttpStatus.NOT_FOUND.value()));
     }
 
+    @ExceptionHandler(AmbiguousEmployeeNameException.class)
+    public ResponseEntity<ErrorResponse> handleAmbiguousName(
+            AmbiguousEmployeeNameException ex, HttpServletRequest req) {
+        logger.info("Ambiguous delete refused: path={} message={}", req.getRequestURI(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header("X-Duplicate-Name-Count", String.valueOf(ex.getCount()))
+                .body(new ErrorResponse(
+                        "Employee name is not unique; delete would be ambiguous",
+                        req.getRequestURI(),
+                        OffsetDateTime.now(),
+                        HttpStatus.CONFLICT.value()));
+    }
+
+    @ExceptionHandler(UnknownRecordingSettingsException.class)
+    public ResponseEntity<ErrorResponse> handleUnknownRecordingSettings(
+            UnknownRecordingSettingsException ex, HttpServletRequest req) {
+        logger.debug("Bad recording request: path={} message={}", req.getRequestURI(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(
+                        ex.getMessage(),
+                        req.getRequestURI(),
+                        OffsetDateTime.now(),
+                        HttpStatus.BAD_REQUEST.value()));
+    }
+
     @ExceptionHandler(NoHandlerFoundException.class)
     public ResponseEntity<ErrorResponse> handleNoHandler(NoHandlerFoundException ex, HttpServletRequest req) {
-        logger.info("No handler found: path={}", req.getRequestURI());
+        logger.debug("No handler found: path={}", req.getRequestURI());
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(new ErrorResponse(
                         "Not Found",
@@ -45,7 +74,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<ErrorResponse> handleNoResource(NoResourceFoundException ex, HttpServletRequest req) {
-        logger.info("No resource found: path={}", req.getRequestURI());
+        logger.debug("No resource found: path={}", req.getRequestURI());
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(new ErrorResponse(
                         "Not Found",
@@ -56,7 +85,8 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex, HttpServletRequest req) {
-        logger.info("Validation failed: path={} errors={}", req.getRequestURI(), ex.getBindingResult().getErrorCount());
+        logger.debug(
+                "Validation failed: path={} errors={}", req.getRequestURI(), ex.getBindingResult().getErrorCount());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(
                         "Invalid request",
@@ -66,8 +96,9 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(ConstraintViolationException.class)
-    public ResponseEntity<ErrorResponse> handleConstraintViolation(ConstraintViolationException ex, HttpServletRequest req) {
-        logger.info("Constraint violation: path={} message={}", req.getRequestURI(), ex.getMessage());
+    public ResponseEntity<ErrorResponse> handleConstraintViolation(
+            ConstraintViolationException ex, HttpServletRequest req) {
+        logger.debug("Constraint violation: path={} message={}", req.getRequestURI(), ex.getMessage());
         String msg = ex.getConstraintViolations().stream()
                 .map(v -> v.getPropertyPath() + " " + v.getMessage())
                 .findFirst()
@@ -82,7 +113,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex, HttpServletRequest req) {
-        logger.info("Bad request: path={} message={}", req.getRequestURI(), ex.getMessage());
+        logger.debug("Bad request: path={} message={}", req.getRequestURI(), ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(
                         "Employee not found",
@@ -92,9 +123,20 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(HttpClientErrorException.TooManyRequests.class)
-    public ResponseEntity<ErrorResponse> handleTooManyRequests(HttpClientErrorException.TooManyRequests ex, HttpServletRequest req) {
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(
+            HttpClientErrorException.TooManyRequests ex, HttpServletRequest req) {
         logger.warn("Rate limited: path={}", req.getRequestURI());
+        req.setAttribute(ConcurrencyLimitInterceptor.UPSTREAM_THROTTLED_ATTRIBUTE, true);
+        // Pass the upstream's Retry-After through so our callers can back off exactly as long as needed.
+        String retryAfter = ex.getResponseHeaders() == null
+                ? null
+                : ex.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .headers(headers -> {
+                    if (retryAfter != null) {
+                        headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+                    }
+                })
                 .body(new ErrorResponse(
                         "Rate limit exceeded. Please try later.",
                         req.getRequestURI(),
@@ -124,6 +166,32 @@ public class GlobalExceptionHandler {
                         HttpStatus.BAD_GATEWAY.value()));
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleOverloaded(ServiceOverloadedException ex, HttpServletRequest req) {
+        logger.warn("Load shed: path={} message={}", req.getRequestURI(), ex.getMessage());
+        req.setAttribute(ConcurrencyLimitInterceptor.LOCAL_REJECTION_ATTRIBUTE, true);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse(
+                        "Service is busy. Please retry later.",
+                        req.getRequestURI(),
+                        OffsetDateTime.now(),
+                        HttpStatus.SERVICE_UNAVAILABLE.value()));
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFull(BulkheadFullException ex, HttpServletRequest req) {
+        logger.warn("Bulkhead full: path={} message={}", req.getRequestURI(), ex.getMessage());
+        req.setAttribute(ConcurrencyLimitInterceptor.LOCAL_REJECTION_ATTRIBUTE, true);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(
+                        "Service is busy. Please retry later.",
+                        req.getRequestURI(),
+                        OffsetDateTime.now(),
+                        HttpStatus.SERVICE_UNAVAILABLE.value()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleException(Exception ex, HttpServletRequest req) {
         logger.error("Unhandled error: path={} message={}", req.getRequestURI(), ex.getMessage(), ex);
@@ -0,0 +1,19 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Thrown when the api sheds work instead of queueing it, e.g. a full write batch queue. Mapped to 503 with a
+ * {@code Retry-After} hint so callers back off rather than time out.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
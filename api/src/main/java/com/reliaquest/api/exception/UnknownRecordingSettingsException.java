@@ -0,0 +1,11 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Thrown when a flight recording is requested with settings the JDK does not know (neither a predefined name such as
+ * {@code default} or {@code profile}, nor a readable .jfc file). Mapped to 400.
+ */
+public class UnknownRecordingSettingsException extends RuntimeException {
+    public UnknownRecordingSettingsException(String settings) {
+        super("Unknown recording settings: " + settings);
+    }
+}
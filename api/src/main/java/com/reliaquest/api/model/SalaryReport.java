@@ -0,0 +1,20 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Salary distribution of the whole roster: overall percentiles, exact headcount and mean salary per title, and
+ * percentiles per age band. Percentiles are approximate within {@code relativeAccuracy}.
+ */
+public record SalaryReport(
+        long employees,
+        double relativeAccuracy,
+        Map<String, Double> percentiles,
+        List<TitleStats> titles,
+        List<AgeBandStats> ageBands) {
+
+    public record TitleStats(String title, long employees, double meanSalary) {}
+
+    public record AgeBandStats(String band, long employees, Map<String, Double> percentiles) {}
+}
@@ -1,114 +1,674 @@
 package com.reliaquest.api.service;
 
-import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.dto.EmployeeChangeDto;
+import com.reliaquest.api.dto.EmployeeChangesDto;
+import com.reliaquest.api.dto.EmployeeListResponse;
+import com.reliaquest.api.dto.EmployeeResponse;
 import com.reliaquest.api.dto.ServerResponse;
+import com.reliaquest.api.exception.ServiceOverloadedException;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Client for the upstream mock employee server(s).
+ *
+ * <p>The roster may be split across several upstream shards ({@code mock.server.shards}). Roster-wide reads fan out to
+ * every shard in parallel; by-id reads and deletes go to the shard owning the id ({@code hash(id) mod shards}, the
+ * same rule the mock server uses when it assigns ids); creates are spread round-robin. With a single shard every call
+ * goes to {@code mock.server.base-url} exactly as before.
+ */
+@Slf4j
 @Component
 public class EmployeeClient {
 
+    public static final String ROSTER_EPOCH_HEADER = "X-Roster-Epoch";
+    public static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
+    public static final String PEER_ROSTER_PATH = "/internal/v1/roster/shards/";
+    /** Most employees the upstream accepts in one {@code POST /api/v1/employee/batch}. */
+    public static final int MAX_CREATE_BATCH = 500;
+    /** Most ids the upstream resolves in one lookup. */
+    public static final int MAX_LOOKUP_BATCH = 1000;
+
+    private static final String HELD_IDS = "held-ids";
+
     private final RestTemplate restTemplate;
-    private final String serverBaseUrl;
+    private final List<Shard> shards;
+    private final boolean changeFeedEnabled;
+    private final EmployeeNameIndex nameIndex;
+    private final RequestHedger hedger;
+    private final PeerDirectory peers;
+    private final Duration peerLease;
+    private final Duration maxStaleness;
+    private final ExecutorService fanOutExecutor;
+    private final AtomicInteger createCursor = new AtomicInteger();
+    private final List<RosterChangeListener> rosterListeners = new CopyOnWriteArrayList<>();
+    private final Object rosterChangeLock = new Object();
 
+    @Autowired
     public EmployeeClient(
-            RestTemplate restTemplate, @Value("${mock.server.base-url:http://localhost:8112}") String serverBaseUrl) {
+            RestTemplate restTemplate,
+            @Value("${mock.server.base-url:http://localhost:8112}") String serverBaseUrl,
+            @Value("${mock.server.shards:}") List<String> shardBaseUrls,
+            @Value("${mock.server.change-feed.enabled:true}") boolean changeFeedEnabled,
+            EmployeeNameIndex nameIndex,
+            RequestHedger hedger,
+            PeerDirectory peers,
+            @Value("${api.peers.lease:1s}") Duration peerLease,
+            @Value("${mock.server.roster.max-staleness:1s}") Duration maxStaleness) {
+        final List<String> urls =
+                (shardBaseUrls == null || shardBaseUrls.isEmpty()) ? List.of(serverBaseUrl) : shardBaseUrls;
         this.restTemplate = restTemplate;
-        this.serverBaseUrl = serverBaseUrl;
+        this.shards = IntStream.range(0, urls.size())
+                .mapToObj(index -> new Shard(index, urls.get(index).trim()))
+                .toList();
+        this.changeFeedEnabled = changeFeedEnabled;
+        this.nameIndex = nameIndex;
+        this.hedger = hedger;
+        this.peers = peers;
+        this.peerLease = peerLease;
+        this.maxStaleness = maxStaleness;
+        if (shards.size() > 1) {
+            final var threadFactory = new CustomizableThreadFactory("upstream-fan-out-");
+            threadFactory.setDaemon(true);
+            this.fanOutExecutor = Executors.newCachedThreadPool(threadFactory);
+            log.info("Upstream roster sharded across {}", urls);
+        } else {
+            this.fanOutExecutor = null;
+        }
+    }
+
+    /**
+     * Unhedged and without peers; {@code shardBaseUrls} are the upstreams in shard order.
+     */
+    EmployeeClient(
+            RestTemplate restTemplate,
+            List<String> shardBaseUrls,
+            boolean changeFeedEnabled,
+            EmployeeNameIndex nameIndex,
+            Duration peerLease,
+            Duration maxStaleness) {
+        this(
+                restTemplate,
+                shardBaseUrls.get(0),
+                shardBaseUrls,
+                changeFeedEnabled,
+                nameIndex,
+                RequestHedger.disabled(),
+                PeerDirectory.standalone(),
+                peerLease,
+                maxStaleness);
+    }
+
+    public int shardCount() {
+        return shards.size();
     }
 
+    /**
+     * Registers {@code listener} for every later roster change, after first replaying the roster held now as added
+     * rows, so the listener's view starts consistent whenever it registers.
+     */
+    public void addRosterChangeListener(RosterChangeListener listener) {
+        synchronized (rosterChangeLock) {
+            final List<Employee> held = shards.stream()
+                    .map(shard -> shard.roster().get())
+                    .filter(Objects::nonNull)
+                    .flatMap(snapshot -> snapshot.employees().stream())
+                    .toList();
+            if (!held.isEmpty()) {
+                listener.onRosterChange(List.of(), held);
+            }
+            rosterListeners.add(listener);
+        }
+    }
+
+    /**
+     * Refreshes the shards whose roster was last refreshed longer than {@code maxAge} ago.
+     */
+    public void refreshIfOlderThan(Duration maxAge) {
+        final var stale =
+                shards.stream().filter(shard -> !isFresh(shard, maxAge)).toList();
+        if (stale.size() == 1 || fanOutExecutor == null) {
+            stale.forEach(shard -> current(shard, maxAge));
+        } else if (!stale.isEmpty()) {
+            awaitAll(stale.stream()
+                    .map(shard -> (Supplier<RosterSnapshot>) () -> current(shard, maxAge))
+                    .toList());
+        }
+    }
+
+    /**
+     * Returns the full roster, the concatenation of every shard's roster.
+     */
     public List<Employee> getAll() {
-        final var url = serverBaseUrl + "/api/v1/employee";
-        ResponseEntity<ServerResponse<List<EmployeeDto>>> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                null,
-                new org.springframework.core.ParameterizedTypeReference<ServerResponse<List<EmployeeDto>>>() {});
-        List<EmployeeDto> dtos = Objects.requireNonNull(response.getBody()).data;
-        List<Employee> employeesList = (dtos == null) ? List.of() : mapToEmployees(dtos);
-        return employeesList;
-    }
-public Optional<Employee> getById(String id) {
-    final var url = serverBaseUrl + "/api/v1/employee/" + id;
-    try {
-        ResponseEntity<ServerResponse<EmployeeDto>> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<ServerResponse<EmployeeDto>>() {}
-        );
-
-        EmployeeDto dto = Objects.requireNonNull(response.getBody()).getData();
-        return Optional.ofNullable(dto).map(EmployeeClient::mapToEmployee);
-
-    } catch (HttpClientErrorException.NotFound e) {
-        return Optional.empty();
-    } catch (HttpClientErrorException | HttpServerErrorException e) {
-        throw e;
-    } catch (Exception e) {
-        throw new HttpServerErrorException(org.springframework.http.HttpStatus.BAD_GATEWAY,
-                "Upstream server error when fetching employee by id");
+        if (shards.size() == 1) {
+            return current(shards.get(0), maxStaleness).employees();
+        }
+        return fanOut(roster -> roster).stream().flatMap(List::stream).toList();
     }
-}
 
+    /**
+     * Brings every shard's roster up to date in parallel and applies {@code perShard} to each one on the fan-out
+     * thread, so per-shard partial results (a max, a top-K, a filter) are computed concurrently and only they are
+     * merged by the caller. Results are in shard order. A failing shard fails the whole call.
+     */
+    public <T> List<T> fanOut(Function<List<Employee>, T> perShard) {
+        return fanOutSnapshots((shard, snapshot) -> perShard.apply(snapshot.employees()));
+    }
+
+    /**
+     * Like {@link #fanOut}, but each shard's result is kept with its snapshot under {@code key} and reused until the
+     * shard installs a newer snapshot, so an aggregate is computed once per roster version rather than per request.
+     * {@code perShard} must depend on the roster only.
+     */
+    public <T> List<T> fanOutCached(String key, Function<List<Employee>, T> perShard) {
+        return fanOutSnapshots((shard, snapshot) -> shard.derived(snapshot, key, perShard));
+    }
+
+    private <T> List<T> fanOutSnapshots(BiFunction<Shard, RosterSnapshot, T> perShard) {
+        if (shards.size() == 1) {
+            final var shard = shards.get(0);
+            return List.of(perShard.apply(shard, current(shard, maxStaleness)));
+        }
+        return awaitAll(shards.stream()
+                .map(shard -> (Supplier<T>) () -> perShard.apply(shard, current(shard, maxStaleness)))
+                .toList());
+    }
+
+    /**
+     * Whether the roster snapshot of the shard owning {@code id} was refreshed within
+     * {@code mock.server.roster.max-staleness} and still lists {@code id}. This is the staleness roster reads accept;
+     * beyond it, or with no snapshot held, only the upstream can tell whether the id exists.
+     */
+    public boolean holdsFresh(String id) {
+        final var shard = shardFor(id);
+        if (!isFresh(shard, maxStaleness)) {
+            return false;
+        }
+        final Set<String> ids = shard.derived(shard.roster().get(), HELD_IDS, roster -> roster.stream()
+                .map(Employee::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
+        return ids.contains(id);
+    }
+
+    /**
+     * Point read of one employee. When {@link RequestHedger hedging} is enabled, a slow answer is raced by a second
+     * request to the same shard.
+     */
+    public Optional<Employee> getById(String id) {
+        final var shard = shardFor(id);
+        return hedger.execute(() -> fetchById(shard, id));
+    }
+
+    /**
+     * Resolves many ids with one upstream call per owning shard. Ids the upstream does not know are absent from the
+     * result.
+     */
+    public Map<String, Employee> getByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        if (shards.size() == 1) {
+            return lookup(shards.get(0), ids);
+        }
+        final Map<Shard, List<String>> idsByShard = new LinkedHashMap<>();
+        ids.forEach(id -> idsByShard.computeIfAbsent(shardFor(id), ignored -> new ArrayList<>()).add(id));
+        final Map<String, Employee> found = new HashMap<>();
+        awaitAll(idsByShard.entrySet().stream()
+                        .map(entry -> (Supplier<Map<String, Employee>>) () -> lookup(entry.getKey(), entry.getValue()))
+                        .toList())
+                .forEach(found::putAll);
+        return found;
+    }
 
     public Employee create(CreateEmployeeInput input) {
-        final var url = serverBaseUrl + "/api/v1/employee";
+        final var shard = nextShardForCreate();
+        final var url = shard.baseUrl() + "/api/v1/employee";
         HttpEntity<CreateEmployeeInput> entity = new HttpEntity<>(input);
-        ResponseEntity<ServerResponse<EmployeeDto>> response = restTemplate.exchange(
-                url,
-                HttpMethod.POST,
-                entity,
-                new org.springframework.core.ParameterizedTypeReference<ServerResponse<EmployeeDto>>() {}
-        );
-        return mapToEmployee(Objects.requireNonNull(response.getBody()).data);
+        ResponseEntity<EmployeeResponse> response =
+                restTemplate.exchange(url, HttpMethod.POST, entity, EmployeeResponse.class);
+        Employee created = Objects.requireNonNull(response.getBody()).data;
+        nameIndex.record(created);
+        shard.markStale();
+        return created;
     }
 
+    public List<Employee> createAll(List<CreateEmployeeInput> inputs) {
+        final var shard = nextShardForCreate();
+        final var url = shard.baseUrl() + "/api/v1/employee/batch";
+        HttpEntity<Map<String, List<CreateEmployeeInput>>> entity = new HttpEntity<>(Map.of("employees", inputs));
+        ResponseEntity<EmployeeListResponse> response =
+                restTemplate.exchange(url, HttpMethod.POST, entity, EmployeeListResponse.class);
+        List<Employee> created =
+                Objects.requireNonNullElse(Objects.requireNonNull(response.getBody()).data, List.of());
+        created.forEach(nameIndex::record);
+        shard.markStale();
+        return created;
+    }
+
+    /**
+     * @return the index of the shard that owns {@code id}; deletes by name only ever reach that shard
+     */
+    public int shardIndexOf(String id) {
+        return shardFor(id).index();
+    }
+
+    /**
+     * Deletes the employee {@code id}. The upstream deletes by name, so {@code name} is what is sent; the id picks the
+     * shard that owns the employee.
+     */
+    public boolean deleteById(String id, String name) {
+        return deleteByName(shardFor(id), name);
+    }
+
+    /**
+     * Deletes the first employee named {@code name}. With several shards they are tried in order until one deletes.
+     */
     public boolean deleteByName(String name) {
-        final var url = serverBaseUrl + "/api/v1/employee";
-        org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-        headers.setContentType(org.springframework.http.MediaType.APPLICATION_JSON);
+        for (Shard shard : shards) {
+            if (deleteByName(shard, name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (fanOutExecutor != null) {
+            fanOutExecutor.shutdownNow();
+        }
+    }
+
+    private Optional<Employee> fetchById(Shard shard, String id) {
+        final var url = shard.baseUrl() + "/api/v1/employee/" + id;
+        try {
+            ResponseEntity<EmployeeResponse> response =
+                    restTemplate.exchange(url, HttpMethod.GET, null, EmployeeResponse.class);
+
+            Optional<Employee> employee = Optional.ofNullable(
+                    Objects.requireNonNull(response.getBody()).getData());
+            employee.ifPresent(nameIndex::record);
+            return employee;
+
+        } catch (HttpClientErrorException.NotFound e) {
+            nameIndex.evict(id);
+            return Optional.empty();
+        } catch (HttpClientErrorException | HttpServerErrorException | ServiceOverloadedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new HttpServerErrorException(
+                    HttpStatus.BAD_GATEWAY, "Upstream server error when fetching employee by id");
+        }
+    }
+
+    private boolean deleteByName(Shard shard, String name) {
+        final var url = shard.baseUrl() + "/api/v1/employee";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<Map<String, String>> entity = new HttpEntity<>(Map.of("name", name), headers);
+        ResponseEntity<ServerResponse<Boolean>> response = restTemplate.exchange(
+                url, HttpMethod.DELETE, entity, new ParameterizedTypeReference<ServerResponse<Boolean>>() {});
+        Boolean ok = Objects.requireNonNull(response.getBody()).data;
+        shard.markStale();
+        return Boolean.TRUE.equals(ok);
+    }
+
+    private Map<String, Employee> lookup(Shard shard, Collection<String> ids) {
+        final var url = shard.baseUrl() + "/api/v1/employee/lookup";
+        HttpEntity<Map<String, Collection<String>>> entity = new HttpEntity<>(Map.of("ids", ids));
+        ResponseEntity<EmployeeListResponse> response =
+                restTemplate.exchange(url, HttpMethod.POST, entity, EmployeeListResponse.class);
+        List<Employee> employees = Objects.requireNonNull(response.getBody()).data;
+        Map<String, Employee> found = new HashMap<>();
+        if (employees != null) {
+            for (Employee employee : employees) {
+                nameIndex.record(employee);
+                found.put(employee.getId(), employee);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Serves shard {@code index} to a peer replicating from this node. Within {@code api.peers.lease} of the last
+     * refresh the held snapshot is returned as is, and concurrent peers wait for a single refresh, so the upstream sees
+     * at most one refresh per shard per lease however many nodes replicate.
+     */
+    public RosterSnapshot snapshotForPeers(int index) {
+        return current(shards.get(index), peerLease);
+    }
+
+    /**
+     * The shard's snapshot, refreshed first unless it was refreshed within {@code maxAge}. A positive age bounds how
+     * often roster reads reach the upstream (change feed, conditional GET or leader alike), however many requests come
+     * in, and concurrent readers of a stale shard wait for one refresh instead of each sending their own.
+     */
+    private RosterSnapshot current(Shard shard, Duration maxAge) {
+        if (maxAge.isZero() || maxAge.isNegative()) {
+            return refresh(shard);
+        }
+        if (isFresh(shard, maxAge)) {
+            return shard.roster().get();
+        }
+        synchronized (shard) {
+            return isFresh(shard, maxAge) ? shard.roster().get() : refresh(shard);
+        }
+    }
+
+    private static boolean isFresh(Shard shard, Duration maxAge) {
+        return shard.roster().get() != null && System.nanoTime() - shard.refreshedAtNanos() < maxAge.toNanos();
+    }
+
+    /**
+     * Brings one shard's roster snapshot up to date. A node following a peer leader replicates the snapshot from it,
+     * and only goes to the upstream itself if the leader is unreachable. From the upstream, with the change feed
+     * enabled and a versioned snapshot in hand, only the changes since that version are downloaded and applied;
+     * otherwise (or when the upstream asks for a resync) the full list is fetched, conditionally on the snapshot's
+     * ETag.
+     */
+    private RosterSnapshot refresh(Shard shard) {
+        final var current = shard.roster().get();
+        final var leader = peers.leaderToFollow();
+        if (leader.isPresent()) {
+            try {
+                final var url = leader.get() + PEER_ROSTER_PATH + shard.index();
+                final var headers = new HttpHeaders();
+                headers.set(PeerDirectory.TOKEN_HEADER, peers.token());
+                return installFull(shard, current, fetchRoster(shard, current, url, headers));
+            } catch (ServiceOverloadedException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                log.warn("Replicating shard {} from {} failed: {}", shard.index(), leader.get(), e.getMessage());
+                peers.reportUnreachable(leader.get());
+            }
+        }
+        if (changeFeedEnabled && shard.changeFeedSupported() && current != null && current.isVersioned()) {
+            final var advanced = fetchChangesSince(shard, current);
+            if (advanced.isPresent()) {
+                shard.markRefreshed();
+                return install(shard, current, advanced.get().snapshot(), advanced.get().deltas());
+            }
+        }
+        return installFull(
+                shard, current, fetchRoster(shard, current, shard.baseUrl() + "/api/v1/employee", new HttpHeaders()));
+    }
+
+    private RosterSnapshot installFull(Shard shard, RosterSnapshot current, RosterSnapshot fetched) {
+        shard.markRefreshed();
+        if (fetched == current) {
+            return current;
+        }
+        final var installed = install(shard, current, fetched, null);
+        if (installed == fetched) {
+            nameIndex.reconcile(current == null ? List.of() : current.employees(), fetched.employees());
+        }
+        return installed;
+    }
+
+    /**
+     * Full roster fetch, made conditional on {@code current}'s validator when there is one. A 304 returns
+     * {@code current} itself, so the previously decoded list is reused without touching a body.
+     */
+    private RosterSnapshot fetchRoster(Shard shard, RosterSnapshot current, String url, HttpHeaders headers) {
+        if (current != null && current.etag() != null) {
+            headers.setIfNoneMatch(current.etag());
+        }
+        ResponseEntity<EmployeeListResponse> response =
+                restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), EmployeeListResponse.class);
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && current != null) {
+            log.debug("Roster of shard {} not modified since {}", shard.index(), current.etag());
+            return current;
+        }
+        List<Employee> employeesList =
+                Objects.requireNonNullElse(Objects.requireNonNull(response.getBody()).data, List.of());
+        return new RosterSnapshot(
+                response.getHeaders().getFirst(ROSTER_EPOCH_HEADER),
+                parseVersion(response.getHeaders().getFirst(ROSTER_VERSION_HEADER)),
+                response.getHeaders().getETag(),
+                employeesList);
+    }
+
+    /**
+     * Installs {@code candidate} unless a newer snapshot got there first, and tells the roster change listeners which
+     * rows changed: the change-feed {@code deltas} when they apply to the snapshot being replaced, otherwise a diff.
+     * Installs are serialized so every listener sees each transition exactly once and in order.
+     */
+    private RosterSnapshot install(
+            Shard shard, RosterSnapshot base, RosterSnapshot candidate, List<RosterSnapshot.Delta> deltas) {
+        synchronized (rosterChangeLock) {
+            final var previous = shard.roster().get();
+            final var installed = shard.install(candidate);
+            if (installed == candidate && previous != candidate && !rosterListeners.isEmpty()) {
+                final List<Employee> removed = new ArrayList<>();
+                final List<Employee> added = new ArrayList<>();
+                final List<Employee> before = previous == null ? List.of() : previous.employees();
+                if (deltas != null && previous == base) {
+                    // Only the rows the deltas touched can differ; an update replaces the row under the same id.
+                    final Set<String> touched = new HashSet<>();
+                    deltas.forEach(delta -> touched.add(delta.employee().getId()));
+                    diff(
+                            before.stream().filter(e -> touched.contains(e.getId())).toList(),
+                            candidate.employees().stream()
+                                    .filter(e -> touched.contains(e.getId()))
+                                    .toList(),
+                            removed,
+                            added);
+                } else {
+                    diff(before, candidate.employees(), removed, added);
+                }
+                if (!removed.isEmpty() || !added.isEmpty()) {
+                    rosterListeners.forEach(listener -> listener.onRosterChange(removed, added));
+                }
+            }
+            return installed;
+        }
+    }
+
+    private Optional<Advance> fetchChangesSince(Shard shard, RosterSnapshot current) {
+        final var url = shard.baseUrl() + "/api/v1/employee/changes?since={since}&epoch={epoch}";
+        final EmployeeChangesDto changes;
         try {
-            ResponseEntity<ServerResponse<Boolean>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.DELETE,
-                    entity,
-                    new org.springframework.core.ParameterizedTypeReference<ServerResponse<Boolean>>() {}
-            );
-            Boolean ok = Objects.requireNonNull(response.getBody()).data;
-            return Boolean.TRUE.equals(ok);
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
+            changes = Objects.requireNonNull(restTemplate
+                            .exchange(
+                                    url,
+                                    HttpMethod.GET,
+                                    null,
+                                    new ParameterizedTypeReference<ServerResponse<EmployeeChangesDto>>() {},
+                                    current.version(),
+                                    current.epoch())
+                            .getBody())
+                    .data;
+        } catch (HttpClientErrorException.NotFound e) {
+            log.info("Upstream shard {} has no change feed; falling back to full roster fetches", shard.index());
+            shard.disableChangeFeed();
+            return Optional.empty();
+        }
+        if (changes == null || changes.resync || !current.epoch().equals(changes.epoch)) {
+            log.debug("Change feed of shard {} asked for resync at version {}", shard.index(), current.version());
+            return Optional.empty();
+        }
+        final List<RosterSnapshot.Delta> deltas = new ArrayList<>();
+        for (EmployeeChangeDto change : Objects.requireNonNullElse(changes.changes, List.<EmployeeChangeDto>of())) {
+            final var employee = change.employee;
+            final boolean removed = "DELETED".equals(change.type);
+            deltas.add(new RosterSnapshot.Delta(removed, employee));
+            if (removed) {
+                nameIndex.evict(employee.getId());
+            } else {
+                nameIndex.record(employee);
+            }
+        }
+        return Optional.of(new Advance(current.advance(changes.version, deltas), deltas));
+    }
+
+    private Shard shardFor(String id) {
+        if (shards.size() == 1) {
+            return shards.get(0);
+        }
+        return shards.get(Math.floorMod(UUID.fromString(id).hashCode(), shards.size()));
+    }
+
+    private Shard nextShardForCreate() {
+        return shards.get(Math.floorMod(createCursor.getAndIncrement(), shards.size()));
+    }
+
+    private <T> List<T> awaitAll(List<Supplier<T>> tasks) {
+        final List<CompletableFuture<T>> futures = tasks.stream()
+                .map(task -> CompletableFuture.supplyAsync(task, fanOutExecutor))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
             throw e;
         }
     }
 
-    private static List<Employee> mapToEmployees(List<EmployeeDto> dtos) {
-        return dtos.stream().map(EmployeeClient::mapToEmployee).collect(Collectors.toList());
+    private static void diff(
+            List<Employee> previous, List<Employee> current, List<Employee> removed, List<Employee> added) {
+        final Map<String, Employee> remaining = new HashMap<>(previous.size() * 2);
+        previous.forEach(employee -> remaining.put(employee.getId(), employee));
+        for (Employee employee : current) {
+            final var old = remaining.remove(employee.getId());
+            if (old == null) {
+                added.add(employee);
+            } else if (!old.equals(employee)) {
+                removed.add(old);
+                added.add(employee);
+            }
+        }
+        removed.addAll(remaining.values());
+    }
+
+    private static long parseVersion(String header) {
+        if (header == null) {
+            return RosterSnapshot.UNVERSIONED;
+        }
+        try {
+            return Long.parseLong(header);
+        } catch (NumberFormatException e) {
+            return RosterSnapshot.UNVERSIONED;
+        }
     }
 
-    private static Employee mapToEmployee(EmployeeDto dto) {
-        return Employee.builder()
-                .id(dto.id != null ? dto.id.toString() : null)
-                .name(dto.name)
-                .salary(dto.salary)
-                .age(dto.age)
-                .title(dto.title)
-                .email(dto.email)
-                .build();
+    private record Advance(RosterSnapshot snapshot, List<RosterSnapshot.Delta> deltas) {}
+
+    /** Values computed from one snapshot, dropped as soon as the shard moves on to another. */
+    private record Derived(RosterSnapshot snapshot, Map<String, Object> values) {}
+
+    /**
+     * One upstream server and the latest roster snapshot we hold for it.
+     */
+    private static final class Shard {
+
+        private final int index;
+        private final String baseUrl;
+        private final AtomicReference<RosterSnapshot> roster = new AtomicReference<>();
+        private volatile boolean changeFeedSupported = true;
+        private volatile long refreshedAtNanos = System.nanoTime() - Long.MAX_VALUE / 2;
+        private final AtomicReference<Derived> derived = new AtomicReference<>();
+
+        Shard(int index, String baseUrl) {
+            this.index = index;
+            this.baseUrl = baseUrl;
+        }
+
+        int index() {
+            return index;
+        }
+
+        String baseUrl() {
+            return baseUrl;
+        }
+
+        AtomicReference<RosterSnapshot> roster() {
+            return roster;
+        }
+
+        boolean changeFeedSupported() {
+            return changeFeedSupported;
+        }
+
+        void disableChangeFeed() {
+            changeFeedSupported = false;
+        }
+
+        long refreshedAtNanos() {
+            return refreshedAtNanos;
+        }
+
+        void markRefreshed() {
+            refreshedAtNanos = System.nanoTime();
+        }
+
+        /** After a write through this api, so the next roster read sees it instead of a held snapshot. */
+        void markStale() {
+            refreshedAtNanos = System.nanoTime() - Long.MAX_VALUE / 2;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T derived(RosterSnapshot snapshot, String key, Function<List<Employee>, T> compute) {
+            var memo = derived.get();
+            if (memo == null || memo.snapshot() != snapshot) {
+                final var fresh = new Derived(snapshot, new ConcurrentHashMap<>());
+                memo = derived.compareAndSet(memo, fresh) ? fresh : derived.get();
+            }
+            if (memo.snapshot() != snapshot) {
+                // Raced with a newer (or older) snapshot's memo: compute without caching.
+                return compute.apply(snapshot.employees());
+            }
+            return (T) memo.values().computeIfAbsent(key, ignored -> compute.apply(snapshot.employees()));
+        }
+
+        RosterSnapshot install(RosterSnapshot candidate) {
+            // Concurrent refreshes may finish out of order; never step back to an older version.
+            return roster.accumulateAndGet(
+                    candidate, (previous, next) -> next.isNewerThan(previous) ? next : previous);
+        }
     }
 }
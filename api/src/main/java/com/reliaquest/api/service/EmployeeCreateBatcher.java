@@ -0,0 +1,66 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional write pipeline for {@code createEmployee}. When enabled, concurrent creates are coalesced by a
+ * {@link MicroBatcher} into a single upstream batch POST; when disabled every create goes straight to
+ * {@link EmployeeClient#create}.
+ */
+@Slf4j
+@Component
+public class EmployeeCreateBatcher {
+
+    private final EmployeeClient employeeClient;
+    private final Duration resultTimeout;
+    private final MicroBatcher<CreateEmployeeInput, Employee> batcher;
+
+    public EmployeeCreateBatcher(
+            EmployeeClient employeeClient,
+            @Value("${api.write-batching.enabled:false}") boolean enabled,
+            @Value("${api.write-batching.max-batch-size:25}") int maxBatchSize,
+            @Value("${api.write-batching.max-wait:10ms}") Duration maxWait,
+            @Value("${api.write-batching.queue-capacity:1000}") int queueCapacity,
+            @Value("${api.write-batching.enqueue-timeout:100ms}") Duration enqueueTimeout,
+            @Value("${api.write-batching.result-timeout:10s}") Duration resultTimeout) {
+        if (enabled && maxBatchSize > EmployeeClient.MAX_CREATE_BATCH) {
+            throw new IllegalArgumentException("api.write-batching.max-batch-size must be at most "
+                    + EmployeeClient.MAX_CREATE_BATCH + ", the upstream's create batch limit, but is " + maxBatchSize);
+        }
+        this.employeeClient = employeeClient;
+        this.resultTimeout = resultTimeout;
+        this.batcher = enabled
+                ? new MicroBatcher<>(
+                        "employee-create", this::createBatch, maxBatchSize, maxWait, queueCapacity, enqueueTimeout)
+                : null;
+        if (enabled) {
+            log.info("Write batching enabled: maxBatchSize={} maxWait={}", maxBatchSize, maxWait);
+        }
+    }
+
+    public Employee create(CreateEmployeeInput input) {
+        if (batcher == null) {
+            return employeeClient.create(input);
+        }
+        return batcher.submitAndWait(input, resultTimeout);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    private List<Employee> createBatch(List<CreateEmployeeInput> inputs) {
+        // A lone request keeps using the single-create route; there is nothing to amortise.
+        return inputs.size() == 1 ? List.of(employeeClient.create(inputs.get(0))) : employeeClient.createAll(inputs);
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional read coalescing for {@code getEmployeeById}. When enabled, concurrent single-id lookups are merged by a
+ * {@link MicroBatcher} into one upstream multi-get, so a burst of point reads costs one request against the upstream's
+ * limit instead of one per id. When disabled every lookup goes straight to {@link EmployeeClient#getById}.
+ */
+@Slf4j
+@Component
+public class EmployeeLookupBatcher {
+
+    private final EmployeeClient employeeClient;
+    private final Duration resultTimeout;
+    private final MicroBatcher<String, Optional<Employee>> batcher;
+
+    public EmployeeLookupBatcher(
+            EmployeeClient employeeClient,
+            @Value("${api.read-batching.enabled:false}") boolean enabled,
+            @Value("${api.read-batching.max-batch-size:100}") int maxBatchSize,
+            @Value("${api.read-batching.max-wait:2ms}") Duration maxWait,
+            @Value("${api.read-batching.queue-capacity:2000}") int queueCapacity,
+            @Value("${api.read-batching.enqueue-timeout:50ms}") Duration enqueueTimeout,
+            @Value("${api.read-batching.result-timeout:10s}") Duration resultTimeout) {
+        if (enabled && maxBatchSize > EmployeeClient.MAX_LOOKUP_BATCH) {
+            throw new IllegalArgumentException("api.read-batching.max-batch-size must be at most "
+                    + EmployeeClient.MAX_LOOKUP_BATCH + ", the upstream's lookup limit, but is " + maxBatchSize);
+        }
+        this.employeeClient = employeeClient;
+        this.resultTimeout = resultTimeout;
+        this.batcher = enabled
+                ? new MicroBatcher<>(
+                        "employee-lookup", this::lookupBatch, maxBatchSize, maxWait, queueCapacity, enqueueTimeout)
+                : null;
+        if (enabled) {
+            log.info("Read coalescing enabled: maxBatchSize={} maxWait={}", maxBatchSize, maxWait);
+        }
+    }
+
+    public Optional<Employee> getById(String id) {
+        if (batcher == null) {
+            return employeeClient.getById(id);
+        }
+        return batcher.submitAndWait(id, resultTimeout);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    private List<Optional<Employee>> lookupBatch(List<String> ids) {
+        if (ids.size() == 1) {
+            return List.of(employeeClient.getById(ids.get(0)));
+        }
+        // The same id may be asked for by several callers inside one window; fetch it once.
+        final var found = employeeClient.getByIds(new LinkedHashSet<>(ids));
+        // The upstream answers with canonical (lower-case) UUIDs.
+        return ids.stream()
+                .map(id -> Optional.ofNullable(found.get(id.toLowerCase(Locale.ROOT))))
+                .toList();
+    }
+}
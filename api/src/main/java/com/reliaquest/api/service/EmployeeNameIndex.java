@@ -0,0 +1,91 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintained id&harr;name mapping of the upstream roster. The upstream deletes by name, so knowing the name for an id
+ * lets {@code deleteEmployeeById} skip the by-id lookup. The reverse side counts ids per name (case-insensitively,
+ * like the upstream's match) to flag deletes that could hit a different employee with the same name.
+ *
+ * <p>Reads are lock-free; writers synchronize so both maps move together.
+ */
+@Component
+public class EmployeeNameIndex {
+
+    private final Map<String, String> namesById = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> idsByName = new ConcurrentHashMap<>();
+
+    public Optional<String> nameOf(String id) {
+        return Optional.ofNullable(namesById.get(id));
+    }
+
+    /**
+     * @return how many known employees whose id passes {@code idFilter} share {@code name}, ignoring case
+     */
+    public int countWithName(String name, Predicate<String> idFilter) {
+        if (name == null) {
+            return 0;
+        }
+        final var ids = idsByName.get(key(name));
+        return ids == null ? 0 : (int) ids.stream().filter(idFilter).count();
+    }
+
+    public synchronized void record(Employee employee) {
+        if (employee == null || employee.getId() == null || employee.getName() == null) {
+            return;
+        }
+        final var previous = namesById.put(employee.getId(), employee.getName());
+        if (previous != null) {
+            unlink(previous, employee.getId());
+        }
+        idsByName
+                .computeIfAbsent(key(employee.getName()), ignored -> ConcurrentHashMap.newKeySet())
+                .add(employee.getId());
+    }
+
+    /**
+     * Moves the mapping from one full roster fetch to the next: every employee in {@code current} is recorded and ids
+     * that were in {@code previous} but are gone now are dropped. Ids learned elsewhere (other shards, by-id lookups)
+     * are left alone.
+     */
+    public synchronized void reconcile(Collection<Employee> previous, Collection<Employee> current) {
+        final Set<String> stale = new HashSet<>();
+        previous.forEach(employee -> stale.add(employee.getId()));
+        for (Employee employee : current) {
+            record(employee);
+            stale.remove(employee.getId());
+        }
+        stale.forEach(this::evict);
+    }
+
+    public synchronized void evict(String id) {
+        final var name = namesById.remove(id);
+        if (name != null) {
+            unlink(name, id);
+        }
+    }
+
+    public int size() {
+        return namesById.size();
+    }
+
+    private void unlink(String name, String id) {
+        idsByName.computeIfPresent(key(name), (ignored, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
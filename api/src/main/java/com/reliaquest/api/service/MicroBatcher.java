@@ -0,0 +1,214 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.exception.ServiceOverloadedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+/**
+ * Collects individually submitted items into batches and hands each batch to a single bulk call. A batch is flushed
+ * once it reaches {@code maxBatchSize} or once its first item has waited {@code maxWait}, whichever comes first.
+ *
+ * <p>The queue is bounded: when it is full, {@link #submit} waits at most {@code enqueueTimeout} and then fails with
+ * {@link ServiceOverloadedException}, so bursts get back-pressure instead of unbounded memory growth. Every accepted
+ * item's future is completed, with the batch's failure if need be, even when the batcher is closed or its worker dies.
+ *
+ * @param <T> item submitted by a caller
+ * @param <R> per-item result; the batch function must return results in submission order
+ */
+@Slf4j
+public class MicroBatcher<T, R> implements AutoCloseable {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final String name;
+    private final Function<List<T>, List<R>> batchFunction;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long enqueueTimeoutNanos;
+    private final BlockingQueue<Pending<T, R>> queue;
+    private final Thread worker;
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder itemCount = new LongAdder();
+
+    private volatile boolean running = true;
+
+    public MicroBatcher(
+            String name,
+            Function<List<T>, List<R>> batchFunction,
+            int maxBatchSize,
+            Duration maxWait,
+            int queueCapacity,
+            Duration enqueueTimeout) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.worker = new Thread(this::run, name + "-batcher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public CompletableFuture<R> submit(T item) {
+        if (!running) {
+            throw shutDown();
+        }
+        final var pending = new Pending<T, R>(item, new CompletableFuture<>());
+        boolean accepted;
+        try {
+            accepted = queue.offer(pending, enqueueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            throw new ServiceOverloadedException(name + " batch queue is full", 1);
+        }
+        if (!running && queue.remove(pending)) {
+            // Closed while we were offering, possibly after its final drain: nobody would take the item.
+            throw shutDown();
+        }
+        return pending.result();
+    }
+
+    /**
+     * Submits {@code item} and waits at most {@code timeout} for its result. The batch function's failure is rethrown
+     * as is; a result that does not arrive in time fails with a 504.
+     */
+    public R submitAndWait(T item, Duration timeout) {
+        try {
+            return submit(item).get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(name + " batch failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new HttpServerErrorException(
+                    HttpStatus.GATEWAY_TIMEOUT, name + " batch did not complete within " + timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw shutDown();
+        }
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    public long batchCount() {
+        return batchCount.sum();
+    }
+
+    public long itemCount() {
+        return itemCount.sum();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failQueued();
+    }
+
+    private void run() {
+        final List<Pending<T, R>> batch = new ArrayList<>(maxBatchSize);
+        try {
+            drainLoop(batch);
+        } finally {
+            // However the loop ended (close, interrupt, an Error out of the batch function), new items are refused and
+            // queued ones failed rather than left waiting.
+            running = false;
+            failQueued();
+        }
+    }
+
+    private void drainLoop(List<Pending<T, R>> batch) {
+        while (running || !queue.isEmpty()) {
+            try {
+                final var first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                final long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    final long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    final var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                // Items taken but never flushed; after a flush every future is already done and this is a no-op.
+                for (Pending<T, R> pending : batch) {
+                    if (!pending.result().isDone()) {
+                        pending.result().completeExceptionally(shutDown());
+                    }
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending<T, R>> batch) {
+        final List<T> items = batch.stream().map(Pending::item).toList();
+        try {
+            final List<R> results = batchFunction.apply(items);
+            if (results.size() != items.size()) {
+                throw new IllegalStateException(
+                        "Batch returned " + results.size() + " results for " + items.size() + " items");
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn("{} batch of {} failed: {}", name, items.size(), e.getMessage());
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+        batchCount.increment();
+        itemCount.add(items.size());
+        log.debug("{} flushed batch of {} (queue depth {})", name, items.size(), queue.size());
+    }
+
+    private void failQueued() {
+        Pending<T, R> leftover;
+        while ((leftover = queue.poll()) != null) {
+            leftover.result().completeExceptionally(shutDown());
+        }
+    }
+
+    private ServiceOverloadedException shutDown() {
+        return new ServiceOverloadedException(name + " batcher is shut down", 1);
+    }
+
+    private record Pending<T, R>(T item, CompletableFuture<R> result) {}
+}
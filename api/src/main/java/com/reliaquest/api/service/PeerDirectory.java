@@ -0,0 +1,208 @@
+package com.reliaquest.api.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Static membership and leader election for api nodes that share one roster cache ({@code api.peers.*}).
+ *
+ * <p>Every node knows the same peer list. The leader is the live peer with the lowest URL: it alone polls the upstream,
+ * and every other node replicates the roster from it over {@code /internal/v1/roster}. Each node pings only the peers
+ * ordered before itself, so a node that sees none of them alive leads. With no peers configured the node is standalone
+ * and always talks to the upstream itself.
+ *
+ * <p>There is no quorum: each node follows the lowest peer it can reach, so a partition (or one broken link) can leave
+ * several nodes leading at once, each polling the upstream. Rosters stay correct since every leader reads the upstream
+ * itself; a node may also follow a peer that follows a lower one, which is harmless because nobody follows a higher
+ * URL. {@code /internal/v1/peer} reports a node's view of the leader.
+ *
+ * <p>Peers authenticate to each other with the shared {@code api.peers.token}, sent as {@link #TOKEN_HEADER}; the
+ * {@code /internal} endpoints refuse requests without it, and refuse everything on a standalone node.
+ */
+@Slf4j
+@Component
+public class PeerDirectory {
+
+    public static final String TOKEN_HEADER = "X-Peer-Token";
+
+    static final String PEER_PATH = "/internal/v1/peer";
+
+    private final String self;
+    private final List<String> lowerPeers;
+    private final Duration heartbeatInterval;
+    private final String token;
+    private final Predicate<String> prober;
+    private final Map<String, Boolean> alive = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeat;
+
+    private volatile String leader;
+
+    @Autowired
+    public PeerDirectory(
+            @Value("${api.peers.self:}") String self,
+            @Value("${api.peers.urls:}") List<String> peerUrls,
+            @Value("${api.peers.heartbeat-interval:1s}") Duration heartbeatInterval,
+            @Value("${api.peers.timeout:500ms}") Duration timeout,
+            @Value("${api.peers.token:}") String token) {
+        this(self, peerUrls, heartbeatInterval, token, httpProber(timeout, token));
+    }
+
+    /**
+     * @param prober tells whether a peer (by base URL) is alive
+     */
+    PeerDirectory(
+            String self, List<String> peerUrls, Duration heartbeatInterval, String token, Predicate<String> prober) {
+        final var peers = peerUrls == null
+                ? List.<String>of()
+                : peerUrls.stream()
+                        .map(String::trim)
+                        .filter(url -> !url.isEmpty())
+                        .distinct()
+                        .sorted()
+                        .toList();
+        final boolean enabled = !self.isBlank() && peers.size() > 1;
+        this.self = self.trim();
+        this.lowerPeers = enabled
+                ? peers.stream().filter(url -> url.compareTo(this.self) < 0).toList()
+                : List.of();
+        this.heartbeatInterval = heartbeatInterval;
+        this.token = token == null ? "" : token.trim();
+        this.prober = prober;
+        this.leader = this.self;
+        if (enabled) {
+            if (!peers.contains(this.self)) {
+                throw new IllegalArgumentException("api.peers.self " + self + " is not in api.peers.urls " + peers);
+            }
+            if (this.token.isEmpty()) {
+                throw new IllegalArgumentException("api.peers.token is required when api.peers.urls is set");
+            }
+            final var threadFactory = new CustomizableThreadFactory("peer-heartbeat-");
+            threadFactory.setDaemon(true);
+            this.heartbeat = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            log.info("Roster sharing with peers {} as {}", peers, this.self);
+        } else {
+            this.heartbeat = null;
+        }
+    }
+
+    public static PeerDirectory standalone() {
+        return new PeerDirectory("", List.of(), Duration.ofSeconds(1), "", peer -> false);
+    }
+
+    public boolean isEnabled() {
+        return heartbeat != null;
+    }
+
+    public String self() {
+        return self;
+    }
+
+    public String leader() {
+        return leader;
+    }
+
+    /** The secret peers present in {@link #TOKEN_HEADER}; empty on a standalone node. */
+    public String token() {
+        return token;
+    }
+
+    /**
+     * @return the URL to replicate the roster from, or empty when this node should go to the upstream itself
+     */
+    public Optional<String> leaderToFollow() {
+        final var current = leader;
+        return current.equals(self) ? Optional.empty() : Optional.of(current);
+    }
+
+    /**
+     * Called when replicating from {@code peer} failed: stop following it until a heartbeat sees it again.
+     */
+    public void reportUnreachable(String peer) {
+        if (alive.put(peer, false) != Boolean.FALSE) {
+            log.warn("Peer {} unreachable", peer);
+        }
+        elect();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (isEnabled()) {
+            // Know the leader before the first roster read (warm-up) instead of polling the upstream needlessly.
+            probeLowerPeers();
+            heartbeat.scheduleWithFixedDelay(
+                    this::probeLowerPeers,
+                    heartbeatInterval.toMillis(),
+                    heartbeatInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+    }
+
+    void probeLowerPeers() {
+        for (String peer : lowerPeers) {
+            final boolean reachable = prober.test(peer);
+            alive.put(peer, reachable);
+            // Peers are in URL order: the first live one leads, the rest need no probe this round.
+            if (reachable) {
+                break;
+            }
+        }
+        elect();
+    }
+
+    private static Predicate<String> httpProber(Duration timeout, String token) {
+        final var requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) timeout.toMillis());
+        requestFactory.setReadTimeout((int) timeout.toMillis());
+        final var restTemplate = new RestTemplate(requestFactory);
+        final var headers = new HttpHeaders();
+        headers.set(TOKEN_HEADER, token);
+        final var request = new HttpEntity<Void>(headers);
+        return peer -> {
+            try {
+                restTemplate.exchange(peer + PEER_PATH, HttpMethod.GET, request, String.class);
+                return true;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        };
+    }
+
+    private void elect() {
+        final var elected = lowerPeers.stream()
+                .filter(peer -> Boolean.TRUE.equals(alive.get(peer)))
+                .findFirst()
+                .orElse(self);
+        final var previous = leader;
+        if (!elected.equals(previous)) {
+            leader = elected;
+            log.info("Roster leader changed from {} to {}", previous, elected);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.reliaquest.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opt-in request hedging for idempotent upstream reads. If an attempt has not answered within the tracked latency
+ * percentile of recent attempts, a second identical attempt is sent (on a separate connection) and the first
+ * successful answer wins; a failure only surfaces once every launched attempt has failed.
+ *
+ * <p>Hedges are paid for from a token budget that each primary request refills by {@code budget-ratio}, so hedging
+ * never adds more than that fraction of extra upstream load. Attempts run on a pool of at most
+ * {@code max-concurrent-attempts} threads: a primary that finds it full runs on the caller's thread (unhedged), a hedge
+ * that finds it full is dropped and its token refunded. Once an attempt wins, the others are cancelled, which takes
+ * queued ones off the pool and interrupts running ones. Primary, hedge, win, budget-exhausted and rejected counts are
+ * published as {@code api.upstream.hedge.*} meters.
+ */
+@Slf4j
+@Component
+public class RequestHedger {
+
+    private static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_EVERY = 32;
+    private static final long TOKEN = 1000;
+    private static final long MAX_TOKENS = 10 * TOKEN;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long depositPerRequest;
+    private final LatencyWindow latencies = new LatencyWindow(1024);
+    private final AtomicLong budget = new AtomicLong();
+    private final Semaphore attemptPermits;
+    private final ExecutorService attemptExecutor;
+    private final ScheduledExecutorService hedgeScheduler;
+
+    private final Counter primaryCounter;
+    private final Counter hedgeCounter;
+    private final Counter hedgeWinCounter;
+    private final Counter budgetExhaustedCounter;
+    private final Counter primaryRejectedCounter;
+    private final Counter hedgeRejectedCounter;
+
+    @Autowired
+    public RequestHedger(
+            @Value("${api.hedging.enabled:false}") boolean enabled,
+            @Value("${api.hedging.percentile:0.95}") double percentile,
+            @Value("${api.hedging.min-delay:5ms}") Duration minDelay,
+            @Value("${api.hedging.budget-ratio:0.05}") double budgetRatio,
+            @Value("${api.hedging.max-concurrent-attempts:64}") int maxConcurrentAttempts,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(
+                enabled,
+                percentile,
+                minDelay,
+                budgetRatio,
+                maxConcurrentAttempts,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    RequestHedger(
+            boolean enabled,
+            double percentile,
+            Duration minDelay,
+            double budgetRatio,
+            int maxConcurrentAttempts,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.depositPerRequest = Math.round(budgetRatio * TOKEN);
+        this.primaryCounter = meterRegistry.counter("api.upstream.hedge.primary");
+        this.hedgeCounter = meterRegistry.counter("api.upstream.hedge.sent");
+        this.hedgeWinCounter = meterRegistry.counter("api.upstream.hedge.won");
+        this.budgetExhaustedCounter = meterRegistry.counter("api.upstream.hedge.budget_exhausted");
+        this.primaryRejectedCounter = meterRegistry.counter("api.upstream.hedge.rejected", "attempt", "primary");
+        this.hedgeRejectedCounter = meterRegistry.counter("api.upstream.hedge.rejected", "attempt", "hedge");
+        if (enabled) {
+            Gauge.builder("api.upstream.hedge.delay", this, hedger -> hedger.hedgeDelayNanos() / 1_000_000.0)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            // Admission is by permit, one per pool thread, so an admitted attempt never waits; the queue only bridges
+            // the moment between a thread finishing one attempt and taking the next.
+            this.attemptPermits = new Semaphore(maxConcurrentAttempts);
+            final var executor = new ThreadPoolExecutor(
+                    maxConcurrentAttempts,
+                    maxConcurrentAttempts,
+                    60,
+                    TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(maxConcurrentAttempts),
+                    daemonThreads("hedged-attempt-"),
+                    new ThreadPoolExecutor.AbortPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            this.attemptExecutor = executor;
+            this.hedgeScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("hedge-timer-"));
+            log.info("Upstream hedging enabled at p{} (budget {}%)", percentile * 100, budgetRatio * 100);
+        } else {
+            this.attemptPermits = null;
+            this.attemptExecutor = null;
+            this.hedgeScheduler = null;
+        }
+    }
+
+    public static RequestHedger disabled() {
+        return new RequestHedger(false, 0.95, Duration.ZERO, 0, 1, new SimpleMeterRegistry());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public <T> T execute(Supplier<T> attempt) {
+        if (!enabled) {
+            return attempt.get();
+        }
+        primaryCounter.increment();
+        deposit();
+
+        final Race<T> race = new Race<>(attempt);
+        final Attempt<T> primary = race.attempt(false);
+        if (!race.launch(primary)) {
+            // The pool is saturated: run unhedged here rather than queue behind other attempts.
+            primaryRejectedCounter.increment();
+            race.runHere(primary);
+        } else {
+            final long delay = hedgeDelayNanos();
+            if (delay > 0) {
+                hedgeScheduler.schedule(() -> hedge(race), delay, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        try {
+            return race.winner.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the current hedge delay, or 0 while there are too few samples to trust a percentile
+     */
+    long hedgeDelayNanos() {
+        final long observed = latencies.percentileNanos();
+        return observed <= 0 ? 0 : Math.max(observed, minDelayNanos);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (enabled) {
+            hedgeScheduler.shutdownNow();
+            attemptExecutor.shutdownNow();
+        }
+    }
+
+    private <T> void hedge(Race<T> race) {
+        if (race.winner.isDone()) {
+            return;
+        }
+        if (!tryWithdraw()) {
+            budgetExhaustedCounter.increment();
+            return;
+        }
+        final Attempt<T> hedge = race.attempt(true);
+        if (!race.launch(hedge)) {
+            hedgeRejectedCounter.increment();
+            deposit(TOKEN);
+            return;
+        }
+        hedgeCounter.increment();
+    }
+
+    private void deposit() {
+        deposit(depositPerRequest);
+    }
+
+    private void deposit(long amount) {
+        budget.accumulateAndGet(amount, (tokens, deposit) -> Math.min(MAX_TOKENS, tokens + deposit));
+    }
+
+    private boolean tryWithdraw() {
+        long tokens;
+        do {
+            tokens = budget.get();
+            if (tokens < TOKEN) {
+                return false;
+            }
+        } while (!budget.compareAndSet(tokens, tokens - TOKEN));
+        return true;
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        final var threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    /**
+     * The attempts of one request. The first successful attempt completes {@link #winner} and cancels the rest; the
+     * request fails once every launched attempt has failed.
+     */
+    private final class Race<T> {
+
+        private final Supplier<T> attempt;
+        private final CompletableFuture<T> winner = new CompletableFuture<>();
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final Queue<Attempt<T>> attempts = new ConcurrentLinkedQueue<>();
+
+        Race(Supplier<T> attempt) {
+            this.attempt = attempt;
+            winner.whenComplete((value, error) -> attempts.forEach(task -> task.cancel(true)));
+        }
+
+        Attempt<T> attempt(boolean hedge) {
+            return new Attempt<>(attempt, hedge, this);
+        }
+
+        /** @return false when every pool thread is taken; the attempt is then not counted as launched */
+        boolean launch(Attempt<T> task) {
+            if (!attemptPermits.tryAcquire()) {
+                return false;
+            }
+            task.pooled = true;
+            outstanding.incrementAndGet();
+            attempts.add(task);
+            try {
+                attemptExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // Only after shutdown: the permits keep the queue from filling up.
+                attempts.remove(task);
+                outstanding.decrementAndGet();
+                attemptPermits.release();
+                return false;
+            }
+            if (winner.isDone()) {
+                task.cancel(true);
+            }
+            return true;
+        }
+
+        void releasePermit() {
+            attemptPermits.release();
+        }
+
+        void runHere(Attempt<T> task) {
+            outstanding.incrementAndGet();
+            task.run();
+        }
+
+        private void settle(Attempt<T> task) {
+            if (task.isCancelled()) {
+                return;
+            }
+            if (task.pooled) {
+                attemptPermits.release();
+            }
+            try {
+                final T value = task.get();
+                latencies.record(System.nanoTime() - task.start);
+                if (winner.complete(value) && task.hedge) {
+                    hedgeWinCounter.increment();
+                }
+            } catch (ExecutionException e) {
+                if (outstanding.decrementAndGet() == 0) {
+                    winner.completeExceptionally(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** One attempt of a {@link Race}; settles the race when it completes. */
+    private static final class Attempt<T> extends FutureTask<T> {
+
+        private final boolean hedge;
+        private final Race<T> race;
+        private final long start = System.nanoTime();
+        private volatile boolean pooled;
+
+        Attempt(Supplier<T> attempt, boolean hedge, Race<T> race) {
+            super(attempt::get);
+            this.hedge = hedge;
+            this.race = race;
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                // A cancelled attempt holds its thread until the attempt itself gives up; settle() releases the rest.
+                if (pooled && isCancelled()) {
+                    race.releasePermit();
+                }
+            }
+        }
+
+        @Override
+        protected void done() {
+            race.settle(this);
+        }
+    }
+
+    /**
+     * Sliding window of the most recent attempt latencies. The percentile is recomputed every few samples rather than
+     * per request, so reading it is a volatile load.
+     */
+    private final class LatencyWindow {
+
+        private final AtomicLongArray samples;
+        private final AtomicLong recorded = new AtomicLong();
+        private volatile long cachedPercentile;
+
+        LatencyWindow(int size) {
+            this.samples = new AtomicLongArray(size);
+        }
+
+        void record(long nanos) {
+            final long n = recorded.getAndIncrement();
+            samples.set((int) (n % samples.length()), nanos);
+            final long count = n + 1;
+            if (count == MIN_SAMPLES || (count > MIN_SAMPLES && count % RECOMPUTE_EVERY == 0)) {
+                recompute(Math.min(count, samples.length()));
+            }
+        }
+
+        long percentileNanos() {
+            return cachedPercentile;
+        }
+
+        private void recompute(long count) {
+            final long[] sorted = new long[(int) count];
+            for (int i = 0; i < count; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+            final int rank = (int) Math.min(count - 1, Math.ceil(percentile * count) - 1);
+            cachedPercentile = sorted[Math.max(0, rank)];
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.diagnostics.EmployeeSearchEvent;
+import com.reliaquest.api.diagnostics.TopEarnersEvent;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Roster aggregates computed per shard and merged, so that a sharded roster never has to be concatenated and sorted as
+ * a whole.
+ */
+public final class RosterAggregates {
+
+    /**
+     * Highest salary first, as the top-ten endpoint has always ordered it (a reversed nulls-last comparator), so
+     * employees without a salary come first. {@link #topEarners} and {@link #mergeTopEarners} break ties by roster
+     * order, as the stable sort of the whole roster did.
+     */
+    public static final Comparator<Employee> BY_SALARY_DESC = Comparator.comparing(
+                    Employee::getSalary, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+            .reversed();
+
+    private static final Comparator<Ranked> RANKING =
+            Comparator.comparing(Ranked::employee, BY_SALARY_DESC).thenComparingInt(Ranked::position);
+
+    private RosterAggregates() {}
+
+    public static int maxSalary(List<Employee> roster) {
+        int max = 0;
+        for (Employee employee : roster) {
+            if (employee.getSalary() != null && employee.getSalary() > max) {
+                max = employee.getSalary();
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Top {@code k} earners of one roster, highest first, in O(n log k) with a bounded min-heap.
+     */
+    public static List<Employee> topEarners(List<Employee> roster, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        final var event = new TopEarnersEvent();
+        event.begin();
+        final PriorityQueue<Ranked> heap = new PriorityQueue<>(k + 1, RANKING.reversed());
+        int position = 0;
+        for (Employee employee : roster) {
+            heap.offer(new Ranked(employee, position++));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        final List<Ranked> ranked = new ArrayList<>(heap);
+        ranked.sort(RANKING);
+        final List<Employee> top = ranked.stream().map(Ranked::employee).toList();
+        event.end();
+        if (event.shouldCommit()) {
+            event.rosterSize = roster.size();
+            event.k = k;
+            event.commit();
+        }
+        return top;
+    }
+
+    /**
+     * K-way merge of per-shard top-K lists (each sorted highest first, in shard order) into the global top {@code k}.
+     * Ties go to the earlier shard, which is where they sit in the concatenated roster.
+     */
+    public static List<Employee> mergeTopEarners(List<List<Employee>> sortedPartials, int k) {
+        final PriorityQueue<Cursor> heads = new PriorityQueue<>(
+                Math.max(1, sortedPartials.size()),
+                Comparator.comparing(Cursor::head, BY_SALARY_DESC).thenComparingInt(Cursor::partial));
+        for (int partial = 0; partial < sortedPartials.size(); partial++) {
+            if (!sortedPartials.get(partial).isEmpty()) {
+                heads.offer(new Cursor(sortedPartials.get(partial), partial, 0));
+            }
+        }
+        final List<Employee> merged = new ArrayList<>(k);
+        while (merged.size() < k && !heads.isEmpty()) {
+            final var cursor = heads.poll();
+            merged.add(cursor.head());
+            if (cursor.position() + 1 < cursor.list().size()) {
+                heads.offer(new Cursor(cursor.list(), cursor.partial(), cursor.position() + 1));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Employees whose name contains {@code fragment}, ignoring case, in roster order.
+     */
+    public static List<Employee> nameContains(List<Employee> roster, String fragment) {
+        final var event = new EmployeeSearchEvent();
+        event.begin();
+        final String needle = fragment.toLowerCase();
+        final List<Employee> matches = roster.stream()
+                .filter(employee -> employee.getName() != null
+                        && employee.getName().toLowerCase().contains(needle))
+                .toList();
+        event.end();
+        if (event.shouldCommit()) {
+            event.queryLength = fragment.length();
+            event.rosterSize = roster.size();
+            event.matches = matches.size();
+            event.commit();
+        }
+        return matches;
+    }
+
+    private record Ranked(Employee employee, int position) {}
+
+    private record Cursor(List<Employee> list, int partial, int position) {
+        Employee head() {
+            return list.get(position);
+        }
+    }
+}
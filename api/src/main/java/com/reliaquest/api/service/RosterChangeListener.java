@@ -0,0 +1,15 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+
+/**
+ * Receives the rows that changed whenever {@link EmployeeClient} installs a newer roster snapshot, so derived state
+ * can be maintained incrementally instead of being recomputed from the whole roster. An updated row arrives as its old
+ * version in {@code removed} and its new version in {@code added}.
+ */
+@FunctionalInterface
+public interface RosterChangeListener {
+
+    void onRosterChange(List<Employee> removed, List<Employee> added);
+}
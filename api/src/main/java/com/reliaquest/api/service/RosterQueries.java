@@ -0,0 +1,41 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Roster-wide questions answered per shard and merged. Aggregates are kept with the shard's snapshot
+ * ({@link EmployeeClient#fanOutCached}), so they are computed once per roster version: the ones {@link RosterWarmUp}
+ * computes at startup are the ones the first requests get.
+ */
+@Component
+@RequiredArgsConstructor
+public class RosterQueries {
+
+    public static final int TOP_EARNERS = 10;
+
+    private static final String MAX_SALARY_KEY = "maxSalary";
+    private static final String TOP_EARNERS_KEY = "topEarners";
+
+    private final EmployeeClient employeeClient;
+
+    public int maxSalary() {
+        return employeeClient.fanOutCached(MAX_SALARY_KEY, RosterAggregates::maxSalary).stream()
+                .max(Integer::compareTo)
+                .orElse(0);
+    }
+
+    /**
+     * Names of the {@link #TOP_EARNERS} highest earners, highest first. Each shard contributes its own top ten; a K-way
+     * merge picks the global top ten.
+     */
+    public List<String> topEarnerNames() {
+        final var perShardTop = employeeClient.fanOutCached(
+                TOP_EARNERS_KEY, roster -> RosterAggregates.topEarners(roster, TOP_EARNERS));
+        return RosterAggregates.mergeTopEarners(perShardTop, TOP_EARNERS).stream()
+                .map(Employee::getName)
+                .toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable copy of the upstream roster at one upstream version. {@code epoch} and {@code version} come from the
+ * {@code X-Roster-Epoch} / {@code X-Roster-Version} headers; a snapshot without them cannot be advanced with deltas.
+ * {@code etag} is the validator the upstream sent with a full fetch, used for the next conditional GET.
+ */
+public record RosterSnapshot(String epoch, long version, String etag, List<Employee> employees) {
+
+    public static final long UNVERSIONED = -1;
+
+    public RosterSnapshot {
+        employees = List.copyOf(employees);
+    }
+
+    public boolean isVersioned() {
+        return epoch != null && version != UNVERSIONED;
+    }
+
+    public boolean isNewerThan(RosterSnapshot other) {
+        return other == null || !isVersioned() || !epoch.equals(other.epoch) || version > other.version;
+    }
+
+    /**
+     * Applies deltas in change-log order, keeping the upstream's list order for untouched rows.
+     */
+    RosterSnapshot advance(long newVersion, List<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return newVersion == version ? this : new RosterSnapshot(epoch, newVersion, null, employees);
+        }
+        final Map<String, Employee> byId = new LinkedHashMap<>(employees.size() + deltas.size());
+        employees.forEach(employee -> byId.put(employee.getId(), employee));
+        for (Delta delta : deltas) {
+            if (delta.removed()) {
+                byId.remove(delta.employee().getId());
+            } else {
+                byId.put(delta.employee().getId(), delta.employee());
+            }
+        }
+        // The upstream's validator for the new version is unknown until the next full fetch.
+        return new RosterSnapshot(epoch, newVersion, null, List.copyOf(byId.values()));
+    }
+
+    record Delta(boolean removed, Employee employee) {}
+}
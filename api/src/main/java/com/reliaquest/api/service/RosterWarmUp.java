@@ -0,0 +1,204 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.diagnostics.UpstreamBackoffEvent;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Preloads the roster once the application is up and reports readiness ({@code /actuator/health/readiness}) only when
+ * it is loaded, so a new instance takes traffic with a warm snapshot and name index instead of sending its first
+ * requests straight to the upstream.
+ *
+ * <p>The first fetch waits a random share of {@code initial-jitter}, so instances started together do not hit the
+ * upstream at the same moment. A 429 is retried after the upstream's {@code Retry-After}; other failures back off
+ * exponentially with jitter. After {@code max-attempts} the instance reports ready anyway unless
+ * {@code ready-on-failure} is off.
+ */
+@Slf4j
+@Component("rosterWarmUp")
+public class RosterWarmUp implements HealthIndicator {
+
+    enum State {
+        DISABLED,
+        PENDING,
+        WARM,
+        FAILED
+    }
+
+    private final EmployeeClient employeeClient;
+    private final RosterQueries rosterQueries;
+    private final boolean enabled;
+    private final int maxAttempts;
+    private final Duration initialJitter;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final boolean readyOnFailure;
+
+    private volatile State state;
+    private volatile int attempts;
+    private volatile int employees;
+    private volatile String lastError;
+    private volatile Thread worker;
+
+    public RosterWarmUp(
+            EmployeeClient employeeClient,
+            RosterQueries rosterQueries,
+            @Value("${api.warm-up.enabled:true}") boolean enabled,
+            @Value("${api.warm-up.max-attempts:8}") int maxAttempts,
+            @Value("${api.warm-up.initial-jitter:2s}") Duration initialJitter,
+            @Value("${api.warm-up.initial-backoff:500ms}") Duration initialBackoff,
+            @Value("${api.warm-up.max-backoff:30s}") Duration maxBackoff,
+            @Value("${api.warm-up.ready-on-failure:true}") boolean readyOnFailure) {
+        this.employeeClient = employeeClient;
+        this.rosterQueries = rosterQueries;
+        this.enabled = enabled;
+        this.maxAttempts = maxAttempts;
+        this.initialJitter = initialJitter;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.readyOnFailure = readyOnFailure;
+        this.state = enabled ? State.PENDING : State.DISABLED;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (state != State.PENDING) {
+            return;
+        }
+        final var thread = new Thread(this::warmUp, "roster-warm-up");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @Override
+    public Health health() {
+        final var health =
+                switch (state) {
+                    case DISABLED -> Health.up();
+                    case WARM -> Health.up().withDetail("employees", employees);
+                    case PENDING -> Health.outOfService();
+                    case FAILED -> readyOnFailure ? Health.up() : Health.down();
+                };
+        health.withDetail("state", state).withDetail("attempts", attempts);
+        if (state == State.FAILED && lastError != null) {
+            health.withDetail("lastError", lastError);
+        }
+        return health.build();
+    }
+
+    State state() {
+        return state;
+    }
+
+    int attempts() {
+        return attempts;
+    }
+
+    void warmUp() {
+        if (!sleep(randomUpTo(initialJitter))) {
+            return;
+        }
+        Duration backoff = initialBackoff;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            attempts = attempt;
+            final Duration wait;
+            final boolean rateLimited;
+            try {
+                final long start = System.nanoTime();
+                final var roster = employeeClient.getAll();
+                // Computed on the loaded snapshot and kept with it, so the first requests within the roster's staleness
+                // bound are answered without an upstream call or recomputation.
+                rosterQueries.maxSalary();
+                rosterQueries.topEarnerNames();
+                employees = roster.size();
+                state = State.WARM;
+                log.info(
+                        "Roster warm-up done: {} employees after {} attempt(s) in {} ms",
+                        roster.size(),
+                        attempt,
+                        Duration.ofNanos(System.nanoTime() - start).toMillis());
+                return;
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                lastError = "429 Too Many Requests";
+                rateLimited = true;
+                wait = retryAfter(e).orElse(backoff).plus(randomUpTo(initialBackoff));
+            } catch (RuntimeException e) {
+                lastError = e.getMessage();
+                rateLimited = false;
+                wait = backoff.dividedBy(2).plus(randomUpTo(backoff.dividedBy(2)));
+            }
+            if (attempt == maxAttempts) {
+                break;
+            }
+            log.info("Roster warm-up attempt {} failed ({}); retrying in {} ms", attempt, lastError, wait.toMillis());
+            final var event = new UpstreamBackoffEvent();
+            event.begin();
+            final boolean slept = sleep(wait);
+            event.end();
+            if (event.shouldCommit()) {
+                event.attempt = attempt;
+                event.rateLimited = rateLimited;
+                event.cause = lastError;
+                event.commit();
+            }
+            if (!slept) {
+                return;
+            }
+            backoff = backoff.multipliedBy(2).compareTo(maxBackoff) > 0 ? maxBackoff : backoff.multipliedBy(2);
+        }
+        state = State.FAILED;
+        log.warn(
+                "Roster warm-up gave up after {} attempts ({}); {}",
+                maxAttempts,
+                lastError,
+                readyOnFailure ? "reporting ready with a cold cache" : "staying unready");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        final var thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private static Optional<Duration> retryAfter(HttpClientErrorException e) {
+        final var headers = e.getResponseHeaders();
+        final var value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            return Optional.empty();
+        }
+    }
+
+    private static Duration randomUpTo(Duration bound) {
+        final long millis = bound.toMillis();
+        return millis <= 0 ? Duration.ZERO : Duration.ofMillis(ThreadLocalRandom.current().nextLong(millis + 1));
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
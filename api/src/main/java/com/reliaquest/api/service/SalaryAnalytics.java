@@ -0,0 +1,133 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryReport;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Salary distribution maintained incrementally from the roster changes {@link EmployeeClient} installs, so a report
+ * costs the same whatever the roster size and never pulls the roster itself.
+ *
+ * <p>Percentiles come from {@link SalarySketch}es (overall and per age band). Titles are a small closed set upstream,
+ * so they get exact counters rather than a count-min sketch.
+ */
+@Component
+public class SalaryAnalytics implements RosterChangeListener {
+
+    static final double[] PERCENTILES = {0.5, 0.75, 0.9, 0.95, 0.99};
+
+    private static final int[] AGE_BAND_STARTS = {16, 25, 35, 45, 55, 65};
+    private static final String NO_TITLE = "(none)";
+
+    private final SalarySketch overall = new SalarySketch();
+    private final SalarySketch[] ageBands =
+            IntStream.range(0, AGE_BAND_STARTS.length).mapToObj(i -> new SalarySketch()).toArray(SalarySketch[]::new);
+    private final Map<String, TitleCounter> titles = new HashMap<>();
+
+    @Autowired
+    public SalaryAnalytics(EmployeeClient employeeClient) {
+        employeeClient.addRosterChangeListener(this);
+    }
+
+    SalaryAnalytics() {}
+
+    @Override
+    public synchronized void onRosterChange(List<Employee> removed, List<Employee> added) {
+        removed.forEach(employee -> apply(employee, -1));
+        added.forEach(employee -> apply(employee, 1));
+    }
+
+    public synchronized SalaryReport report() {
+        final List<SalaryReport.TitleStats> titleStats = new ArrayList<>(titles.size());
+        titles.forEach((title, counter) -> {
+            if (counter.employees > 0) {
+                titleStats.add(new SalaryReport.TitleStats(
+                        title,
+                        counter.employees,
+                        counter.salaried == 0 ? 0 : (double) counter.salarySum / counter.salaried));
+            }
+        });
+        titleStats.sort(Comparator.comparing(SalaryReport.TitleStats::employees)
+                .reversed()
+                .thenComparing(SalaryReport.TitleStats::title));
+
+        final List<SalaryReport.AgeBandStats> bandStats = new ArrayList<>(ageBands.length);
+        for (int i = 0; i < ageBands.length; i++) {
+            bandStats.add(new SalaryReport.AgeBandStats(
+                    bandLabel(i), ageBands[i].count(), percentiles(ageBands[i])));
+        }
+        return new SalaryReport(
+                titles.values().stream().mapToLong(counter -> counter.employees).sum(),
+                SalarySketch.DEFAULT_RELATIVE_ACCURACY,
+                percentiles(overall),
+                titleStats,
+                bandStats);
+    }
+
+    private void apply(Employee employee, int delta) {
+        final var title = employee.getTitle() == null ? NO_TITLE : employee.getTitle();
+        final var counter = titles.computeIfAbsent(title, ignored -> new TitleCounter());
+        counter.employees += delta;
+        if (counter.employees == 0) {
+            titles.remove(title);
+        }
+        final var salary = employee.getSalary();
+        if (salary == null) {
+            return;
+        }
+        counter.salaried += delta;
+        counter.salarySum += (long) delta * salary;
+        if (delta > 0) {
+            overall.add(salary);
+        } else {
+            overall.remove(salary);
+        }
+        final int band = bandOf(employee.getAge());
+        if (band >= 0) {
+            if (delta > 0) {
+                ageBands[band].add(salary);
+            } else {
+                ageBands[band].remove(salary);
+            }
+        }
+    }
+
+    private static int bandOf(Integer age) {
+        if (age == null || age < AGE_BAND_STARTS[0]) {
+            return -1;
+        }
+        int band = 0;
+        while (band + 1 < AGE_BAND_STARTS.length && age >= AGE_BAND_STARTS[band + 1]) {
+            band++;
+        }
+        return band;
+    }
+
+    private static String bandLabel(int band) {
+        return band + 1 < AGE_BAND_STARTS.length
+                ? AGE_BAND_STARTS[band] + "-" + (AGE_BAND_STARTS[band + 1] - 1)
+                : AGE_BAND_STARTS[band] + "+";
+    }
+
+    private static Map<String, Double> percentiles(SalarySketch sketch) {
+        final Map<String, Double> result = new LinkedHashMap<>();
+        for (double p : PERCENTILES) {
+            result.put("p" + Math.round(p * 100), Math.round(sketch.quantile(p) * 100) / 100.0);
+        }
+        return result;
+    }
+
+    private static final class TitleCounter {
+        private long employees;
+        private long salaried;
+        private long salarySum;
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.api.service;
+
+/**
+ * Mergeable quantile sketch for salaries with a relative error bound, in the style of DDSketch: a value {@code v} is
+ * counted in bucket {@code ceil(log_gamma(v))} with {@code gamma = (1 + a) / (1 - a)}, so any quantile is answered
+ * within {@code a} (relative) of a value actually in the sketch.
+ *
+ * <p>The buckets cover every positive {@code int}, which at 1% accuracy is about a thousand counters whatever the
+ * roster size. Counts can be taken out again, so the sketch follows roster updates and deletes incrementally.
+ * Salaries of zero or below share one bucket and are reported as 0. Not thread-safe.
+ */
+public final class SalarySketch {
+
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    private final double relativeAccuracy;
+    private final double logGamma;
+    private final long[] counts;
+    private long zeroCount;
+    private long count;
+
+    public SalarySketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    public SalarySketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("relativeAccuracy must be in (0, 1): " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.logGamma = Math.log((1 + relativeAccuracy) / (1 - relativeAccuracy));
+        this.counts = new long[bucketOf(Integer.MAX_VALUE) + 1];
+    }
+
+    public void add(int value) {
+        adjust(value, 1);
+    }
+
+    /**
+     * Takes out one earlier {@link #add} of {@code value}.
+     */
+    public void remove(int value) {
+        adjust(value, -1);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return the value at quantile {@code q} (0 = minimum, 1 = maximum) within the relative accuracy, or 0 when the
+     *     sketch is empty
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("quantile must be in [0, 1]: " + q);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        // Zero-based rank of the wanted value, as in DDSketch.
+        final long rank = (long) (q * (count - 1));
+        long seen = zeroCount;
+        if (seen > rank) {
+            return 0;
+        }
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen > rank) {
+                return valueOf(bucket);
+            }
+        }
+        return valueOf(counts.length - 1);
+    }
+
+    /**
+     * Adds every value counted in {@code other}, which must use the same relative accuracy.
+     */
+    public void merge(SalarySketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different relative accuracy");
+        }
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            counts[bucket] += other.counts[bucket];
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    private void adjust(int value, int delta) {
+        if (value <= 0) {
+            zeroCount += delta;
+        } else {
+            counts[bucketOf(value)] += delta;
+        }
+        count += delta;
+    }
+
+    private int bucketOf(int value) {
+        // Bucket i holds (gamma^(i-1), gamma^i]; a salary of 1 is the only value in bucket 0.
+        return Math.max(0, (int) Math.ceil(Math.log(value) / logGamma));
+    }
+
+    private double valueOf(int bucket) {
+        // Midpoint of (gamma^(i-1), gamma^i] in relative terms, which bounds the error by relativeAccuracy.
+        return 2 * Math.exp(bucket * logGamma) / (1 + Math.exp(logGamma));
+    }
+}
@@ -0,0 +1,143 @@
+package com.reliaquest.api.web;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient-style adaptive concurrency limit. The limit follows the ratio between a long-term latency baseline and the
+ * short-term latency of recent requests: while recent requests are as fast as the baseline the limit grows by about
+ * {@code sqrt(limit)} per sample, and once queueing shows up as extra latency it shrinks in proportion. Failed requests
+ * (5xx, which is how upstream timeouts surface) cut it multiplicatively.
+ *
+ * <p>Requests at {@link Priority#LOW} may only use {@code 1 - reservedForHighPriority} of the limit, so cheap point
+ * reads and writes still get in while roster-wide requests are being shed.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {
+        HIGH,
+        LOW
+    }
+
+    private static final double LONG_TERM_WEIGHT = 1.0 / 600;
+    private static final double SHORT_TERM_WEIGHT = 1.0 / 10;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double reservedForHighPriority;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longTermRttNanos;
+    private double shortTermRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double reservedForHighPriority) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.reservedForHighPriority = reservedForHighPriority;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes a slot if one is available to {@code priority}. The returned permit must be completed exactly once.
+     */
+    public Optional<Permit> tryAcquire(Priority priority) {
+        final int ceiling = ceilingFor(priority);
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= ceiling) {
+                return Optional.empty();
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return Optional.of(new Permit(System.nanoTime(), current + 1));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private int ceilingFor(Priority priority) {
+        final double current = limit;
+        if (priority == Priority.HIGH) {
+            return (int) current;
+        }
+        return Math.max(1, (int) (current * (1 - reservedForHighPriority)));
+    }
+
+    private synchronized void onSuccess(long rttNanos, int inFlightAtStart) {
+        if (longTermRttNanos == 0) {
+            longTermRttNanos = rttNanos;
+            shortTermRttNanos = rttNanos;
+            return;
+        }
+        shortTermRttNanos += (rttNanos - shortTermRttNanos) * SHORT_TERM_WEIGHT;
+        longTermRttNanos += (rttNanos - longTermRttNanos) * LONG_TERM_WEIGHT;
+        // After a recovery, pull the baseline down quickly instead of waiting ~600 samples for the average to follow.
+        if (longTermRttNanos > shortTermRttNanos * 2) {
+            longTermRttNanos *= 0.95;
+        }
+
+        final double current = limit;
+        // An app-limited sample (far below the limit) says nothing about how much more we could take.
+        if (inFlightAtStart < current / 2) {
+            return;
+        }
+        final double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longTermRttNanos / shortTermRttNanos));
+        final double target = current * gradient + Math.sqrt(current);
+        setLimit(current * (1 - SMOOTHING) + target * SMOOTHING);
+    }
+
+    private synchronized void onDropped() {
+        setLimit(limit * DROP_BACKOFF);
+    }
+
+    private void setLimit(double newLimit) {
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private boolean completed;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        public void onSuccess() {
+            if (release()) {
+                AdaptiveConcurrencyLimiter.this.onSuccess(System.nanoTime() - startNanos, inFlightAtStart);
+            }
+        }
+
+        public void onDropped() {
+            if (release()) {
+                AdaptiveConcurrencyLimiter.this.onDropped();
+            }
+        }
+
+        /** Releases the slot without feeding the sample into the limit, e.g. for a client error. */
+        public void onIgnore() {
+            release();
+        }
+
+        private boolean release() {
+            if (completed) {
+                return false;
+            }
+            completed = true;
+            inFlight.decrementAndGet();
+            return true;
+        }
+    }
+}
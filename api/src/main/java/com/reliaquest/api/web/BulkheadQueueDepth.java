@@ -0,0 +1,53 @@
+package com.reliaquest.api.web;
+
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Queue depth per bulkhead ({@code api.bulkhead.queue_depth{name}}): calls that reached a {@link Bulkhead @Bulkhead}
+ * method and are still waiting for a permit. Runs outside resilience4j's own aspect; a call leaves the queue when the
+ * bulkhead permits or rejects it (see {@code ResilienceConfig}).
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BulkheadQueueDepth {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> depths = new ConcurrentHashMap<>();
+
+    public BulkheadQueueDepth(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(bulkhead)")
+    public Object enqueue(ProceedingJoinPoint call, Bulkhead bulkhead) throws Throwable {
+        depthOf(bulkhead.name()).incrementAndGet();
+        return call.proceed();
+    }
+
+    /** Called on the caller's thread once the bulkhead has permitted or rejected the call. */
+    public void leave(String name) {
+        depthOf(name).decrementAndGet();
+    }
+
+    public int depth(String name) {
+        return depthOf(name).get();
+    }
+
+    private AtomicInteger depthOf(String name) {
+        return depths.computeIfAbsent(
+                name,
+                ignored -> meterRegistry.gauge("api.bulkhead.queue_depth", Tags.of("name", name), new AtomicInteger()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.web;
+
+/**
+ * Names of the resilience4j bulkheads that partition controller concurrency by kind of work, so a spike of roster-wide
+ * requests cannot take the threads and upstream connections that point reads and writes need. Each name has an
+ * instance under {@code resilience4j.bulkhead.instances} in {@code application.yml}.
+ */
+public final class Bulkheads {
+
+    /** Requests that download and process the whole roster. */
+    public static final String ROSTER = "roster";
+
+    /** Single-employee reads. */
+    public static final String POINT_READ = "point-read";
+
+    /** Creates and deletes. */
+    public static final String WRITE = "write";
+
+    private Bulkheads() {}
+}
@@ -0,0 +1,93 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.exception.ServiceOverloadedException;
+import com.reliaquest.api.web.AdaptiveConcurrencyLimiter.Permit;
+import com.reliaquest.api.web.AdaptiveConcurrencyLimiter.Priority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admits controller requests through an {@link AdaptiveConcurrencyLimiter}. A request over the limit is rejected before
+ * the handler runs with a {@link ServiceOverloadedException} (503 + {@code Retry-After}), so excess work fails in
+ * microseconds instead of waiting on the upstream with everything else. Handlers marked {@link ShedFirst} are admitted
+ * at low priority.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    /**
+     * Set on the request when the api itself turned it away (a full bulkhead or batch queue). Such a 503 says nothing
+     * about upstream latency and must not cut the limit, or local shedding of one class would starve the others.
+     */
+    public static final String LOCAL_REJECTION_ATTRIBUTE =
+            ConcurrencyLimitInterceptor.class.getName() + ".localRejection";
+
+    /**
+     * Set on the request when the upstream answered 429. The upstream's rate limiter is the main overload signal it
+     * gives, so this client error cuts the limit like a 5xx does.
+     */
+    public static final String UPSTREAM_THROTTLED_ATTRIBUTE =
+            ConcurrencyLimitInterceptor.class.getName() + ".upstreamThrottled";
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final long retryAfterSeconds;
+    private final Counter rejectedHigh;
+    private final Counter rejectedLow;
+
+    public ConcurrencyLimitInterceptor(
+            AdaptiveConcurrencyLimiter limiter, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.rejectedHigh = meterRegistry.counter("api.concurrency.rejected", "priority", "high");
+        this.rejectedLow = meterRegistry.counter("api.concurrency.rejected", "priority", "low");
+        Gauge.builder("api.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("api.concurrency.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        final var priority = handlerMethod.hasMethodAnnotation(ShedFirst.class) ? Priority.LOW : Priority.HIGH;
+        final var permit = limiter.tryAcquire(priority);
+        if (permit.isEmpty()) {
+            (priority == Priority.LOW ? rejectedLow : rejectedHigh).increment();
+            throw new ServiceOverloadedException(
+                    "Concurrency limit " + limiter.getLimit() + " reached", retryAfterSeconds);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit.get());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit)) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+        // Handled exceptions arrive here as a status: 5xx (upstream failure or timeout) and upstream throttling are the
+        // overload signal; other client errors and the api's own rejections are not a latency sample worth learning
+        // from.
+        final int status = response.getStatus();
+        final boolean throttled = Boolean.TRUE.equals(request.getAttribute(UPSTREAM_THROTTLED_ATTRIBUTE));
+        if (Boolean.TRUE.equals(request.getAttribute(LOCAL_REJECTION_ATTRIBUTE))) {
+            permit.onIgnore();
+        } else if (ex != null || status >= 500 || throttled) {
+            permit.onDropped();
+        } else if (status >= 400) {
+            permit.onIgnore();
+        } else {
+            permit.onSuccess();
+        }
+    }
+}
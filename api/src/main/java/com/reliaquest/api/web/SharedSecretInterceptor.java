@@ -0,0 +1,38 @@
+package com.reliaquest.api.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admits a request only when it carries the configured secret in {@code header}; anything else is answered with 401
+ * before the handler runs. For endpoints meant for operators or other api nodes rather than clients. The comparison
+ * takes the same time whatever the mismatch, so the secret cannot be guessed byte by byte.
+ */
+public class SharedSecretInterceptor implements HandlerInterceptor {
+
+    private final String header;
+    private final byte[] secret;
+
+    public SharedSecretInterceptor(String header, String secret) {
+        if (!StringUtils.hasText(secret)) {
+            throw new IllegalArgumentException("A secret is required for " + header);
+        }
+        this.header = header;
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var presented = request.getHeader(header);
+        if (presented != null && MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        return false;
+    }
+}
@@ -0,0 +1,76 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.exception.ServiceOverloadedException;
+import com.reliaquest.api.service.EmployeeClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Splits upstream connections between the {@link Bulkheads} classes. The bulkheads bound controller calls, but one
+ * roster request fans out to every shard, and batchers and hedges issue calls from their own threads; without a
+ * budget per class those could still take every connection to the upstream. Each call takes a permit of its class for
+ * as long as the exchange runs (the body is read by then) and fails with {@link ServiceOverloadedException} when none
+ * frees up within {@code maxWait}. Gauges {@code api.upstream.connections.in_use{class}} show the usage.
+ */
+public class UpstreamConnectionBudget implements ClientHttpRequestInterceptor {
+
+    private final Map<String, Semaphore> budgets;
+    private final long maxWaitNanos;
+
+    public UpstreamConnectionBudget(
+            int roster, int pointRead, int write, Duration maxWait, MeterRegistry meterRegistry) {
+        this.budgets = Map.of(
+                Bulkheads.ROSTER, new Semaphore(roster),
+                Bulkheads.POINT_READ, new Semaphore(pointRead),
+                Bulkheads.WRITE, new Semaphore(write));
+        this.maxWaitNanos = maxWait.toNanos();
+        final var sizes = Map.of(Bulkheads.ROSTER, roster, Bulkheads.POINT_READ, pointRead, Bulkheads.WRITE, write);
+        budgets.forEach((name, budget) -> Gauge.builder(
+                        "api.upstream.connections.in_use", budget, b -> sizes.get(name) - b.availablePermits())
+                .tag("class", name)
+                .register(meterRegistry));
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        final var name = classOf(request);
+        final var budget = budgets.get(name);
+        try {
+            if (!budget.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw new ServiceOverloadedException("Upstream connection budget for " + name + " exhausted", 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Interrupted waiting for an upstream connection", 1);
+        }
+        try {
+            return execution.execute(request, body);
+        } finally {
+            budget.release();
+        }
+    }
+
+    /** The class an upstream call belongs to, from its method and path. */
+    static String classOf(HttpRequest request) {
+        final var path = request.getURI().getPath();
+        if (request.getMethod() == HttpMethod.GET) {
+            return path.endsWith("/api/v1/employee")
+                            || path.endsWith("/api/v1/employee/changes")
+                            || path.contains(EmployeeClient.PEER_ROSTER_PATH)
+                    ? Bulkheads.ROSTER
+                    : Bulkheads.POINT_READ;
+        }
+        return path.endsWith("/api/v1/employee/lookup") ? Bulkheads.POINT_READ : Bulkheads.WRITE;
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeClient;
+import com.reliaquest.api.service.EmployeeLookupBatcher;
+import com.reliaquest.api.web.Bulkheads;
+import com.reliaquest.api.web.BulkheadQueueDepth;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Runs the real {@code @Bulkhead} aspects: the roster bulkhead is cut to one call, held by a blocked request, and the
+ * next roster request must be shed while point reads keep their own partition.
+ */
+@SpringBootTest(properties = {
+        "api.warm-up.enabled=false",
+        "resilience4j.bulkhead.instances.roster.max-concurrent-calls=1"
+})
+@AutoConfigureMockMvc
+class BulkheadSaturationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BulkheadQueueDepth queueDepth;
+
+    @MockBean
+    private EmployeeClient employeeClient;
+
+    @MockBean
+    private EmployeeLookupBatcher employeeLookupBatcher;
+
+    @Test
+    void saturatedRosterBulkhead_shedsRosterRequestsWith503_butNotPointReads() throws Exception {
+        final var entered = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        given(employeeClient.getAll()).willAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        final var id = UUID.randomUUID().toString();
+        given(employeeLookupBatcher.getById(id))
+                .willReturn(Optional.of(Employee.builder().id(id).name("Alice").build()));
+
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            final var holder = executor.submit(() -> mockMvc.perform(get("/api/v1/employee")).andReturn());
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            mockMvc.perform(get("/api/v1/employee"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"));
+            mockMvc.perform(get("/api/v1/employee/{id}", id)).andExpect(status().isOk());
+
+            assertEquals(1.0, meterRegistry.counter("api.bulkhead.rejected", "name", Bulkheads.ROSTER).count());
+            assertEquals(0, queueDepth.depth(Bulkheads.ROSTER));
+
+            release.countDown();
+            final MvcResult held = holder.get(5, TimeUnit.SECONDS);
+            assertEquals(200, held.getResponse().getStatus());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,15 +1,27 @@
 package com.reliaquest.api.controller;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeClient;
+import com.reliaquest.api.service.EmployeeCreateBatcher;
+import com.reliaquest.api.service.EmployeeLookupBatcher;
+import com.reliaquest.api.service.EmployeeNameIndex;
+import com.reliaquest.api.service.RosterQueries;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,7 +29,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -32,6 +47,18 @@ class EmployeeControllerTest {
     @MockBean
     private EmployeeClient employeeClient;
 
+    @MockBean
+    private EmployeeCreateBatcher employeeCreateBatcher;
+
+    @MockBean
+    private EmployeeNameIndex employeeNameIndex;
+
+    @MockBean
+    private EmployeeLookupBatcher employeeLookupBatcher;
+
+    @MockBean
+    private RosterQueries rosterQueries;
+
     private static Employee emp(String id, String name, Integer salary) {
         return Employee.builder().id(id).name(name).salary(salary).age(30).title("Engineer").email("e@x.com").build();
     }
@@ -45,6 +72,27 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[1].name").value("Bob"));
     }
 
+    @Test
+    void getAllEmployees_returns503WithRetryAfter_whenBulkheadIsFull() throws Exception {
+        given(employeeClient.getAll())
+                .willThrow(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("roster")));
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message").value("Service is busy. Please retry later."));
+    }
+
+    @Test
+    void getAllEmployees_forwardsUpstreamRetryAfter_whenRateLimited() throws Exception {
+        HttpHeaders upstreamHeaders = new HttpHeaders();
+        upstreamHeaders.set(HttpHeaders.RETRY_AFTER, "3");
+        given(employeeClient.getAll()).willThrow(HttpClientErrorException.create(
+                HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", upstreamHeaders, null, null));
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "3"));
+    }
+
     @Test
     void searchEmployees_filtersBySubstring_caseInsensitive() throws Exception {
         given(employeeClient.getAll()).willReturn(List.of(emp("1","Alice",100), emp("2","Bob",200)));
@@ -57,7 +105,7 @@ class EmployeeControllerTest {
     @Test
     void getEmployeeById_returnsEmployee_whenExists() throws Exception {
         UUID id = UUID.randomUUID();
-        given(employeeClient.getById(id.toString())).willReturn(Optional.of(emp(id.toString(),"Alice",100)));
+        given(employeeLookupBatcher.getById(id.toString())).willReturn(Optional.of(emp(id.toString(),"Alice",100)));
         mockMvc.perform(get("/api/v1/employee/" + id))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.name").value("Alice"));
@@ -66,7 +114,7 @@ class EmployeeControllerTest {
     @Test
     void getEmployeeById_returns404_whenMissing() throws Exception {
         UUID id = UUID.randomUUID();
-        given(employeeClient.getById(id.toString())).willReturn(Optional.empty());
+        given(employeeLookupBatcher.getById(id.toString())).willReturn(Optional.empty());
         mockMvc.perform(get("/api/v1/employee/" + id))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value("Employee not found: " + id));
@@ -83,12 +131,59 @@ class EmployeeControllerTest {
     void deleteEmployee_success_returnsDeletedName() throws Exception {
         UUID id = UUID.randomUUID();
         given(employeeClient.getById(id.toString())).willReturn(Optional.of(emp(id.toString(),"Alice",100)));
-        given(employeeClient.deleteByName("Alice")).willReturn(true);
+        given(employeeClient.deleteById(id.toString(), "Alice")).willReturn(true);
         mockMvc.perform(delete("/api/v1/employee/" + id))
                 .andExpect(status().isOk())
                 .andExpect(header().string("Content-Type", startsWith("text/plain")));
     }
 
+    @Test
+    void deleteEmployee_knownName_skipsLookup() throws Exception {
+        UUID id = UUID.randomUUID();
+        given(employeeNameIndex.nameOf(id.toString())).willReturn(Optional.of("Alice"));
+        given(employeeClient.holdsFresh(id.toString())).willReturn(true);
+        given(employeeClient.deleteById(id.toString(), "Alice")).willReturn(true);
+        mockMvc.perform(delete("/api/v1/employee/" + id))
+                .andExpect(status().isOk());
+        then(employeeClient).should(never()).getById(any());
+        then(employeeNameIndex).should().evict(id.toString());
+    }
+
+    @Test
+    void deleteEmployee_staleKnownName_returns404() throws Exception {
+        UUID id = UUID.randomUUID();
+        given(employeeNameIndex.nameOf(id.toString())).willReturn(Optional.of("Alice"));
+        given(employeeClient.holdsFresh(id.toString())).willReturn(true);
+        given(employeeClient.deleteById(id.toString(), "Alice")).willReturn(false);
+        mockMvc.perform(delete("/api/v1/employee/" + id))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteEmployee_knownNameOutsideAFreshRoster_isCheckedUpstreamFirst() throws Exception {
+        // The id was deleted elsewhere and another Bob created on its shard, whom the index has not seen yet.
+        UUID id = UUID.randomUUID();
+        given(employeeNameIndex.nameOf(id.toString())).willReturn(Optional.of("Bob"));
+        given(employeeClient.holdsFresh(id.toString())).willReturn(false);
+        given(employeeClient.getById(id.toString())).willReturn(Optional.empty());
+        mockMvc.perform(delete("/api/v1/employee/" + id))
+                .andExpect(status().isNotFound());
+        then(employeeClient).should(never()).deleteById(any(), any());
+    }
+
+    @Test
+    void deleteEmployee_duplicateNameOnTheOwningShard_isRefusedWith409() throws Exception {
+        UUID id = UUID.randomUUID();
+        given(employeeNameIndex.nameOf(id.toString())).willReturn(Optional.of("Alice"));
+        given(employeeClient.holdsFresh(id.toString())).willReturn(true);
+        given(employeeNameIndex.countWithName(eq("Alice"), any())).willReturn(2);
+        mockMvc.perform(delete("/api/v1/employee/" + id))
+                .andExpect(status().isConflict())
+                .andExpect(header().string("X-Duplicate-Name-Count", "2"));
+        then(employeeClient).should(never()).deleteById(any(), any());
+        then(employeeNameIndex).should(never()).evict(any());
+    }
+
     @Test
     void deleteEmployee_missing_returns404() throws Exception {
         UUID id = UUID.randomUUID();
@@ -102,12 +197,24 @@ class EmployeeControllerTest {
     void deleteEmployee_upstream5xx_returns502() throws Exception {
         UUID id = UUID.randomUUID();
         given(employeeClient.getById(id.toString())).willReturn(Optional.of(emp(id.toString(),"Alice",100)));
-        given(employeeClient.deleteByName("Alice")).willThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+        given(employeeClient.deleteById(id.toString(), "Alice"))
+                .willThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
         mockMvc.perform(delete("/api/v1/employee/" + id))
                 .andExpect(status().isBadGateway())
                 .andExpect(jsonPath("$.code").value(502));
     }
 
+    @Test
+    void createEmployee_goesThroughWritePipeline_returns201() throws Exception {
+        given(employeeCreateBatcher.create(any(CreateEmployeeInput.class))).willReturn(emp("1","Alice",100));
+        mockMvc.perform(post("/api/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Alice\",\"salary\":100,\"age\":30,\"title\":\"Engineer\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("X-Message", "Employee successfully added: Alice"))
+                .andExpect(jsonPath("$.name").value("Alice"));
+    }
+
     @Test
     void unknownRoute_returns404_json() throws Exception {
         mockMvc.perform(get("/api/v1/employee/foo/bar"))
@@ -0,0 +1,124 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeClient;
+import com.reliaquest.api.service.PeerDirectory;
+import com.reliaquest.api.service.RosterSnapshot;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(
+        controllers = PeerController.class,
+        properties = {
+            "api.peers.self=http://a:8111",
+            "api.peers.urls=http://a:8111,http://b:8111",
+            "api.peers.token=secret"
+        })
+@Import(PeerDirectory.class)
+class PeerControllerTest {
+
+    private static final String TOKEN = "secret";
+    private static final String ID = UUID.randomUUID().toString();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeClient employeeClient;
+
+    @BeforeEach
+    void setup() {
+        given(employeeClient.shardCount()).willReturn(1);
+    }
+
+    @Test
+    void peerEndpoints_requireTheSharedToken() throws Exception {
+        mockMvc.perform(get("/internal/v1/peer")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/internal/v1/roster/shards/0").header(PeerDirectory.TOKEN_HEADER, "guess"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void peer_reportsSelfAndLeader() throws Exception {
+        // The lowest URL leads without probing anyone.
+        mockMvc.perform(get("/internal/v1/peer").header(PeerDirectory.TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.self").value("http://a:8111"))
+                .andExpect(jsonPath("$.leader").value("http://a:8111"));
+    }
+
+    @Test
+    void versionedShard_carriesTheUpstreamHeaders_andIsNotModifiedForItsOwnETag() throws Exception {
+        given(employeeClient.snapshotForPeers(0)).willReturn(new RosterSnapshot("e1", 7, null, List.of(alice())));
+
+        String etag = mockMvc.perform(get("/internal/v1/roster/shards/0").header(PeerDirectory.TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"e1-7\""))
+                .andExpect(header().string(EmployeeClient.ROSTER_EPOCH_HEADER, "e1"))
+                .andExpect(header().string(EmployeeClient.ROSTER_VERSION_HEADER, "7"))
+                .andExpect(jsonPath("$.data[0].id").value(ID))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Alice"))
+                .andExpect(jsonPath("$.data[0].employee_salary").value(100))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // What a follower sends on its next refresh.
+        mockMvc.perform(get("/internal/v1/roster/shards/0")
+                        .header(PeerDirectory.TOKEN_HEADER, TOKEN)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        given(employeeClient.snapshotForPeers(0)).willReturn(new RosterSnapshot("e1", 8, null, List.of()));
+        mockMvc.perform(get("/internal/v1/roster/shards/0")
+                        .header(PeerDirectory.TOKEN_HEADER, TOKEN)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"e1-8\""))
+                .andExpect(header().string(EmployeeClient.ROSTER_VERSION_HEADER, "8"))
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    void unversionedShard_passesTheUpstreamETagOn_withoutVersionHeaders() throws Exception {
+        given(employeeClient.snapshotForPeers(0))
+                .willReturn(new RosterSnapshot(null, RosterSnapshot.UNVERSIONED, "\"abc\"", List.of(alice())));
+
+        mockMvc.perform(get("/internal/v1/roster/shards/0").header(PeerDirectory.TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+                .andExpect(header().doesNotExist(EmployeeClient.ROSTER_EPOCH_HEADER))
+                .andExpect(header().doesNotExist(EmployeeClient.ROSTER_VERSION_HEADER));
+        mockMvc.perform(get("/internal/v1/roster/shards/0")
+                        .header(PeerDirectory.TOKEN_HEADER, TOKEN)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void unknownShard_isNotFound() throws Exception {
+        mockMvc.perform(get("/internal/v1/roster/shards/1").header(PeerDirectory.TOKEN_HEADER, TOKEN))
+                .andExpect(status().isNotFound());
+    }
+
+    private static Employee alice() {
+        return Employee.builder().id(ID).name("Alice").salary(100).age(30).build();
+    }
+}
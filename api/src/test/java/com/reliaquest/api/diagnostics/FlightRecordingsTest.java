@@ -0,0 +1,60 @@
+package com.reliaquest.api.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.exception.UnknownRecordingSettingsException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.RosterAggregates;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class FlightRecordingsTest {
+
+    private final FlightRecordings recordings = new FlightRecordings(Duration.ofMinutes(5), DataSize.ofMegabytes(10));
+
+    @AfterEach
+    void closeAll() {
+        recordings.shutdown();
+    }
+
+    @Test
+    void recordsTheApiEvents_andDumpsThemWhileRunning() throws Exception {
+        long id = recordings.start("default", "test").id();
+
+        List<Employee> roster = List.of(
+                Employee.builder().name("Alice").salary(10).build(),
+                Employee.builder().name("Bob").salary(20).build());
+        RosterAggregates.topEarners(roster, 1);
+        var file = recordings.dump(id);
+
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertThat(events)
+                    .filteredOn(event -> event.getEventType().getName().equals("com.reliaquest.api.TopEarners"))
+                    .singleElement()
+                    .satisfies(event -> assertThat(event.getInt("rosterSize")).isEqualTo(2));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        assertThat(recordings.get(id).state()).isEqualTo("RUNNING");
+        assertThat(recordings.stop(id).state()).isEqualTo("STOPPED");
+    }
+
+    @Test
+    void onlyManagesItsOwnRecordings() {
+        long id = recordings.start("default", null).id();
+        recordings.close(id);
+
+        assertThat(recordings.list()).isEmpty();
+        assertThrows(ResourceNotFoundException.class, () -> recordings.stop(id));
+        assertThrows(UnknownRecordingSettingsException.class, () -> recordings.start("no-such-settings", null));
+    }
+}
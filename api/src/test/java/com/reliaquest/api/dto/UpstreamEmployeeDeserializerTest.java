@@ -0,0 +1,82 @@
+package com.reliaquest.api.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UpstreamEmployeeDeserializerTest {
+
+    // As configured for RestTemplate's converter by Spring's Jackson2ObjectMapperBuilder.
+    private final ObjectMapper mapper =
+            new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Test
+    void decodesTheUpstreamWireFormat_likeTheReflectiveBinding() throws Exception {
+        String id = UUID.randomUUID().toString();
+        String json = """
+                {"data":[
+                  {"id":"%s","employee_name":"Alice","employee_salary":120000,"employee_age":41,
+                   "employee_title":"Engineer","employee_email":"alice@company.com","extra":{"nested":[1,2]}},
+                  {"id":null,"employee_name":"Bob","employee_salary":"90000","employee_age":null},
+                  null
+                ],"status":"ok"}
+                """.formatted(id);
+
+        List<Employee> streamed = mapper.readValue(json, EmployeeListResponse.class).data;
+
+        assertThat(streamed).hasSize(3);
+        assertThat(streamed.get(0))
+                .isEqualTo(new Employee(id, "Alice", 120000, 41, "Engineer", "alice@company.com"));
+        assertThat(streamed.get(1)).isEqualTo(new Employee(null, "Bob", 90000, null, null, null));
+        assertThat(streamed.get(2)).isNull();
+        assertThat(reflective(json).subList(0, 2)).isEqualTo(streamed.subList(0, 2));
+    }
+
+    @Test
+    void structuredValueForATextField_isRejectedLikeTheReflectiveBinding() {
+        String json = """
+                {"data":[{"employee_name":{"id":"injected","employee_salary":1},"employee_title":"Engineer"}]}
+                """;
+
+        assertThatThrownBy(() -> mapper.readValue(json, EmployeeListResponse.class))
+                .isInstanceOf(MismatchedInputException.class);
+        assertThatThrownBy(() -> reflective(json)).isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    void decodesTheChangeFeedEmployee() throws Exception {
+        EmployeeChangeDto change = mapper.readValue(
+                """
+                {"version":4,"type":"CREATED","employee":{"id":"e1","employee_name":"Carol","employee_salary":5}}
+                """,
+                EmployeeChangeDto.class);
+
+        assertThat(change.employee).isEqualTo(new Employee("e1", "Carol", 5, null, null, null));
+    }
+
+    /** The decode path this deserializer replaced: bind to {@link EmployeeDto}, then copy into {@link Employee}. */
+    private List<Employee> reflective(String json) throws Exception {
+        TypeReference<ServerResponse<List<EmployeeDto>>> type = new TypeReference<>() {};
+        ServerResponse<List<EmployeeDto>> response = mapper.readValue(json, type);
+        return response.data.stream()
+                .map(dto -> dto == null
+                        ? null
+                        : Employee.builder()
+                                .id(dto.id != null ? dto.id.toString() : null)
+                                .name(dto.name)
+                                .salary(dto.salary)
+                                .age(dto.age)
+                                .title(dto.title)
+                                .email(dto.email)
+                                .build())
+                .toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class EmployeeBatcherLimitsTest {
+
+    private final EmployeeClient client = mock(EmployeeClient.class);
+
+    @Test
+    void createBatcher_refusesBatchesAboveTheUpstreamLimit() {
+        IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> new EmployeeCreateBatcher(
+                        client,
+                        true,
+                        EmployeeClient.MAX_CREATE_BATCH + 1,
+                        Duration.ofMillis(10),
+                        1000,
+                        Duration.ofMillis(100),
+                        Duration.ofSeconds(10)));
+        assertThat(ex).hasMessageContaining("api.write-batching.max-batch-size");
+    }
+
+    @Test
+    void lookupBatcher_refusesBatchesAboveTheUpstreamLimit() {
+        IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> new EmployeeLookupBatcher(
+                        client,
+                        true,
+                        EmployeeClient.MAX_LOOKUP_BATCH + 1,
+                        Duration.ofMillis(2),
+                        2000,
+                        Duration.ofMillis(50),
+                        Duration.ofSeconds(10)));
+        assertThat(ex).hasMessageContaining("api.read-batching.max-batch-size");
+    }
+
+    @Test
+    void batchersAcceptTheUpstreamLimitItself() {
+        new EmployeeCreateBatcher(
+                        client,
+                        true,
+                        EmployeeClient.MAX_CREATE_BATCH,
+                        Duration.ofMillis(10),
+                        1000,
+                        Duration.ofMillis(100),
+                        Duration.ofSeconds(10))
+                .shutdown();
+        new EmployeeLookupBatcher(
+                        client,
+                        true,
+                        EmployeeClient.MAX_LOOKUP_BATCH,
+                        Duration.ofMillis(2),
+                        2000,
+                        Duration.ofMillis(50),
+                        Duration.ofSeconds(10))
+                .shutdown();
+    }
+
+    @Test
+    void disabledBatchers_ignoreTheSize() {
+        new EmployeeCreateBatcher(
+                client,
+                false,
+                Integer.MAX_VALUE,
+                Duration.ofMillis(10),
+                1000,
+                Duration.ofMillis(100),
+                Duration.ofSeconds(10));
+        new EmployeeLookupBatcher(
+                client,
+                false,
+                Integer.MAX_VALUE,
+                Duration.ofMillis(2),
+                2000,
+                Duration.ofMillis(50),
+                Duration.ofSeconds(10));
+    }
+}
@@ -2,23 +2,37 @@ package com.reliaquest.api.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
+import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.HttpHeaders;
 
-@SpringBootTest(classes = {com.reliaquest.api.ApiApplication.class})
+// Warm-up would send its own roster fetch through the shared RestTemplate bound to the mock server below.
+@SpringBootTest(classes = {com.reliaquest.api.ApiApplication.class}, properties = "api.warm-up.enabled=false")
 class EmployeeClientTest {
 
     @Autowired
@@ -31,14 +45,23 @@ class EmployeeClientTest {
         server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
     }
 
+    private EmployeeClient client(String base) {
+        return client(List.of(base), false, new EmployeeNameIndex(), Duration.ZERO);
+    }
+
+    private EmployeeClient client(
+            List<String> shards, boolean changeFeedEnabled, EmployeeNameIndex index, Duration maxStaleness) {
+        return new EmployeeClient(restTemplate, shards, changeFeedEnabled, index, Duration.ZERO, maxStaleness);
+    }
+
     @Test
     void getById_404_returnsEmpty() {
         String base = "http://localhost:8112";
-        EmployeeClient client = new EmployeeClient(restTemplate, base);
+        EmployeeClient client = client(base);
         UUID id = UUID.randomUUID();
 
         server.expect(request -> request.getURI().toString().equals(base + "/api/v1/employee/" + id))
-                .andRespond(request -> new org.springframework.mock.http.client.MockClientHttpResponse(new byte[0], HttpStatus.NOT_FOUND));
+                .andRespond(request -> new MockClientHttpResponse(new byte[0], HttpStatus.NOT_FOUND));
 
         Optional<Employee> result = client.getById(id.toString());
         assertThat(result).isEmpty();
@@ -47,16 +70,238 @@ class EmployeeClientTest {
     @Test
     void deleteByName_setsJsonContentType_andBubblesErrors() {
         String base = "http://localhost:8112";
-        EmployeeClient client = new EmployeeClient(restTemplate, base);
+        EmployeeClient client = client(base);
 
         server.expect(request -> {
                     assertThat(request.getMethod()).isEqualTo(HttpMethod.DELETE);
-                    assertThat(request.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE)).startsWith(MediaType.APPLICATION_JSON_VALUE);
+                    assertThat(request.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE))
+                            .startsWith(MediaType.APPLICATION_JSON_VALUE);
                 })
-                .andRespond(request -> new org.springframework.mock.http.client.MockClientHttpResponse(new byte[0], HttpStatus.INTERNAL_SERVER_ERROR));
+                .andRespond(request -> new MockClientHttpResponse(new byte[0], HttpStatus.INTERNAL_SERVER_ERROR));
 
         assertThrows(HttpServerErrorException.class, () -> client.deleteByName("Alice"));
     }
-}
 
+    @Test
+    void getAll_withChangeFeed_appliesDeltasInsteadOfRefetching() {
+        String base = "http://localhost:8112";
+        EmployeeClient client = client(List.of(base), true, new EmployeeNameIndex(), Duration.ZERO);
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+
+        HttpHeaders versionHeaders = new HttpHeaders();
+        versionHeaders.add("X-Roster-Epoch", "e1");
+        versionHeaders.add("X-Roster-Version", "3");
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"%s","employee_name":"Alice"}],"status":"ok"}
+                        """.formatted(alice), MediaType.APPLICATION_JSON).headers(versionHeaders));
+        server.expect(requestTo(base + "/api/v1/employee/changes?since=3&epoch=e1"))
+                .andRespond(withSuccess("""
+                        {"data":{"epoch":"e1","version":5,"resync":false,"changes":[
+                          {"version":4,"type":"CREATED","employee":{"id":"%s","employee_name":"Bob"}},
+                          {"version":5,"type":"DELETED","employee":{"id":"%s","employee_name":"Alice"}}
+                        ]},"status":"ok"}
+                        """.formatted(bob, alice), MediaType.APPLICATION_JSON));
+
+        assertThat(client.getAll()).extracting(Employee::getName).containsExactly("Alice");
+        assertThat(client.getAll()).extracting(Employee::getName).containsExactly("Bob");
+        server.verify();
+    }
+
+    @Test
+    void rosterChangeListener_receivesTheHeldRosterThenEachChange() {
+        String base = "http://localhost:8112";
+        EmployeeClient client = client(List.of(base), true, new EmployeeNameIndex(), Duration.ZERO);
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+
+        HttpHeaders versionHeaders = new HttpHeaders();
+        versionHeaders.add("X-Roster-Epoch", "e1");
+        versionHeaders.add("X-Roster-Version", "3");
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"%s","employee_name":"Alice"}],"status":"ok"}
+                        """.formatted(alice), MediaType.APPLICATION_JSON).headers(versionHeaders));
+        server.expect(requestTo(base + "/api/v1/employee/changes?since=3&epoch=e1"))
+                .andRespond(withSuccess("""
+                        {"data":{"epoch":"e1","version":4,"resync":false,"changes":[
+                          {"version":4,"type":"CREATED","employee":{"id":"%s","employee_name":"Bob"}}
+                        ]},"status":"ok"}
+                        """.formatted(bob), MediaType.APPLICATION_JSON));
+
+        client.getAll();
+        List<String> events = new ArrayList<>();
+        client.addRosterChangeListener((removed, added) -> added.forEach(e -> events.add("+" + e.getName())));
+        client.getAll();
+
+        assertThat(events).containsExactly("+Alice", "+Bob");
+        server.verify();
+    }
+
+    @Test
+    void getAll_withinMaxStaleness_servesTheHeldSnapshot_untilAWriteInvalidatesIt() {
+        String base = "http://localhost:8112";
+        EmployeeClient client = client(List.of(base), true, new EmployeeNameIndex(), Duration.ofMinutes(1));
+
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"%s","employee_name":"Alice"}],"status":"ok"}
+                        """.formatted(UUID.randomUUID()), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withSuccess("""
+                        {"data":true,"status":"ok"}
+                        """, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("""
+                        {"data":[],"status":"ok"}
+                        """, MediaType.APPLICATION_JSON));
+
+        assertThat(client.getAll()).hasSize(1);
+        assertThat(client.getAll()).hasSize(1);
+        client.deleteByName("Alice");
+        assertThat(client.getAll()).isEmpty();
+        server.verify();
+    }
+
+    @Test
+    void getAll_withinMaxStaleness_refetchesAfterACreate() {
+        String base = "http://localhost:8112";
+        EmployeeClient client = client(List.of(base), false, new EmployeeNameIndex(), Duration.ofMinutes(1));
+        UUID bob = UUID.randomUUID();
+
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("""
+                        {"data":[],"status":"ok"}
+                        """, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("""
+                        {"data":{"id":"%s","employee_name":"Bob"},"status":"ok"}
+                        """.formatted(bob), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"%s","employee_name":"Bob"}],"status":"ok"}
+                        """.formatted(bob), MediaType.APPLICATION_JSON));
+
+        assertThat(client.getAll()).isEmpty();
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        input.setName("Bob");
+        client.create(input);
+        assertThat(client.getAll()).extracting(Employee::getName).containsExactly("Bob");
+        server.verify();
+    }
 
+    @Test
+    void holdsFresh_onlyForIdsInASnapshotWithinMaxStaleness() {
+        String base = "http://localhost:8112";
+        EmployeeClient client = client(List.of(base), false, new EmployeeNameIndex(), Duration.ofMinutes(1));
+        UUID alice = UUID.randomUUID();
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"%s","employee_name":"Alice"}],"status":"ok"}
+                        """.formatted(alice), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withSuccess("""
+                        {"data":true,"status":"ok"}
+                        """, MediaType.APPLICATION_JSON));
+
+        assertThat(client.holdsFresh(alice.toString())).isFalse();
+        client.getAll();
+        assertThat(client.holdsFresh(alice.toString())).isTrue();
+        assertThat(client.holdsFresh(UUID.randomUUID().toString())).isFalse();
+        client.deleteByName("Bob");
+        assertThat(client.holdsFresh(alice.toString())).isFalse();
+        server.verify();
+    }
+
+    @Test
+    void fanOutCached_computesOncePerSnapshot() {
+        String base = "http://localhost:8112";
+        EmployeeClient client = client(List.of(base), false, new EmployeeNameIndex(), Duration.ofMinutes(1));
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"%s","employee_name":"Alice","employee_salary":7}],"status":"ok"}
+                        """.formatted(UUID.randomUUID()), MediaType.APPLICATION_JSON));
+        AtomicInteger computations = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(client.fanOutCached("max", roster -> {
+                        computations.incrementAndGet();
+                        return RosterAggregates.maxSalary(roster);
+                    }))
+                    .containsExactly(7);
+        }
+
+        assertThat(computations).hasValue(1);
+        server.verify();
+    }
+
+    @Test
+    void getAll_notModified_reusesPreviousList() {
+        String base = "http://localhost:8112";
+        EmployeeClient client = client(base);
+
+        HttpHeaders validator = new HttpHeaders();
+        validator.setETag("\"e1-3\"");
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"%s","employee_name":"Alice"}],"status":"ok"}
+                        """.formatted(UUID.randomUUID()), MediaType.APPLICATION_JSON).headers(validator));
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"e1-3\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED).headers(validator));
+
+        List<Employee> first = client.getAll();
+        List<Employee> second = client.getAll();
+
+        assertThat(second).isSameAs(first);
+        server.verify();
+    }
+
+    @Test
+    void getByIds_resolvesManyIdsInOneCall() {
+        String base = "http://localhost:8112";
+        EmployeeNameIndex index = new EmployeeNameIndex();
+        EmployeeClient client = client(List.of(base), false, index, Duration.ZERO);
+        UUID alice = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+
+        server.expect(requestTo(base + "/api/v1/employee/lookup"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.ids.length()").value(2))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"%s","employee_name":"Alice"}],"status":"ok"}
+                        """.formatted(alice), MediaType.APPLICATION_JSON));
+
+        Map<String, Employee> found = client.getByIds(List.of(alice.toString(), missing.toString()));
+
+        assertThat(found).containsOnlyKeys(alice.toString());
+        assertThat(index.nameOf(alice.toString())).contains("Alice");
+        server.verify();
+    }
+
+    @Test
+    void snapshotForPeers_withinLease_servesTheHeldSnapshotWithoutRefetching() {
+        String base = "http://localhost:8112";
+        EmployeeClient client = new EmployeeClient(
+                restTemplate, List.of(base), false, new EmployeeNameIndex(), Duration.ofMinutes(1), Duration.ZERO);
+
+        server.expect(requestTo(base + "/api/v1/employee"))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"%s","employee_name":"Alice"}],"status":"ok"}
+                        """.formatted(UUID.randomUUID()), MediaType.APPLICATION_JSON));
+
+        RosterSnapshot first = client.snapshotForPeers(0);
+        RosterSnapshot second = client.snapshotForPeers(0);
+
+        assertThat(second).isSameAs(first);
+        server.verify();
+    }
+}
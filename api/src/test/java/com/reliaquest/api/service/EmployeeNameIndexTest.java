@@ -0,0 +1,63 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+class EmployeeNameIndexTest {
+
+    private final EmployeeNameIndex index = new EmployeeNameIndex();
+
+    private static final Predicate<String> ANY_ID = id -> true;
+
+    private static Employee emp(String id, String name) {
+        return Employee.builder().id(id).name(name).build();
+    }
+
+    @Test
+    void reconcile_dropsIdsMissingFromRoster_keepsOthers() {
+        index.record(emp("1", "Alice"));
+        index.record(emp("2", "Bob"));
+        index.record(emp("9", "Zed"));
+
+        index.reconcile(List.of(emp("1", "Alice"), emp("2", "Bob")), List.of(emp("2", "Bob"), emp("3", "Carol")));
+
+        assertThat(index.nameOf("1")).isEmpty();
+        assertThat(index.nameOf("3")).contains("Carol");
+        assertThat(index.nameOf("9")).contains("Zed");
+        assertThat(index.countWithName("Alice", ANY_ID)).isZero();
+    }
+
+    @Test
+    void countsDuplicateNamesCaseInsensitively() {
+        index.record(emp("1", "Alice Smith"));
+        index.record(emp("2", "alice smith"));
+
+        assertThat(index.countWithName("ALICE SMITH", ANY_ID)).isEqualTo(2);
+
+        index.evict("2");
+        assertThat(index.countWithName("Alice Smith", ANY_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void countWithName_canBeScopedToSomeIds() {
+        index.record(emp("1", "Alice"));
+        index.record(emp("2", "Alice"));
+        index.record(emp("3", "Alice"));
+
+        assertThat(index.countWithName("alice", id -> !id.equals("2"))).isEqualTo(2);
+        assertThat(index.countWithName("alice", "3"::equals)).isEqualTo(1);
+    }
+
+    @Test
+    void rename_movesIdToNewName() {
+        index.record(emp("1", "Alice"));
+        index.record(emp("1", "Alicia"));
+
+        assertThat(index.countWithName("Alice", ANY_ID)).isZero();
+        assertThat(index.countWithName("Alicia", ANY_ID)).isEqualTo(1);
+    }
+}
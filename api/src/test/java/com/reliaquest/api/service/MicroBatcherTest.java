@@ -0,0 +1,180 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.exception.ServiceOverloadedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+
+class MicroBatcherTest {
+
+    @Test
+    void coalescesSubmissions_andCompletesEachCallerInOrder() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        try (var batcher = new MicroBatcher<Integer, String>(
+                "test",
+                items -> {
+                    batchSizes.add(items.size());
+                    return items.stream().map(i -> "r" + i).toList();
+                },
+                4,
+                Duration.ofMillis(50),
+                100,
+                Duration.ofMillis(100))) {
+
+            List<CompletableFuture<String>> futures =
+                    IntStream.range(0, 10).mapToObj(batcher::submit).toList();
+
+            assertThat(futures.stream().map(CompletableFuture::join).toList())
+                    .containsExactly("r0", "r1", "r2", "r3", "r4", "r5", "r6", "r7", "r8", "r9");
+            assertThat(batchSizes).allMatch(size -> size <= 4);
+            assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+            assertThat(batcher.batchCount()).isLessThan(10);
+        }
+    }
+
+    @Test
+    void batchFailure_failsEveryCallerInTheBatch() {
+        try (var batcher = new MicroBatcher<Integer, String>(
+                "test",
+                items -> {
+                    throw new IllegalStateException("upstream down");
+                },
+                4,
+                Duration.ofMillis(20),
+                100,
+                Duration.ofMillis(100))) {
+
+            CompletionException ex =
+                    assertThrows(CompletionException.class, () -> batcher.submit(1).join());
+            assertThat(ex.getCause()).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void fullQueue_rejectsWithBackPressure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (var batcher = new MicroBatcher<Integer, Integer>(
+                "test",
+                items -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return items;
+                },
+                1,
+                Duration.ZERO,
+                1,
+                Duration.ofMillis(10))) {
+
+            CompletableFuture<Integer> inFlight = batcher.submit(1);
+            // Wait until the worker has taken the first item and is blocked inside the batch call.
+            while (batcher.queueDepth() > 0) {
+                Thread.sleep(5);
+            }
+            CompletableFuture<Integer> queued = batcher.submit(2);
+
+            assertThrows(ServiceOverloadedException.class, () -> batcher.submit(3));
+
+            release.countDown();
+            assertThat(inFlight.join()).isEqualTo(1);
+            assertThat(queued.join()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void errorInTheBatchFunction_failsItsCallers_andStopsTheBatcher() throws Exception {
+        try (var batcher = new MicroBatcher<Integer, String>(
+                "test",
+                items -> {
+                    throw new LinkageError("broken batch function");
+                },
+                4,
+                Duration.ofMillis(5),
+                100,
+                Duration.ofMillis(100))) {
+
+            ExecutionException ex =
+                    assertThrows(ExecutionException.class, () -> batcher.submit(1).get(1, TimeUnit.SECONDS));
+            assertThat(ex.getCause()).isInstanceOf(ServiceOverloadedException.class);
+
+            // The dead worker is noticed, so later callers are refused instead of queueing for nobody.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+            boolean refused = false;
+            while (!refused && System.nanoTime() < deadline) {
+                try {
+                    batcher.submit(2);
+                    Thread.sleep(5);
+                } catch (ServiceOverloadedException e) {
+                    refused = true;
+                }
+            }
+            assertThat(refused).isTrue();
+        }
+    }
+
+    @Test
+    void submitAndWait_givesUpAfterTheTimeoutWithA504() {
+        CountDownLatch release = new CountDownLatch(1);
+        try (var batcher = new MicroBatcher<Integer, Integer>(
+                "test",
+                items -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return items;
+                },
+                1,
+                Duration.ZERO,
+                10,
+                Duration.ofMillis(10))) {
+
+            HttpServerErrorException ex = assertThrows(
+                    HttpServerErrorException.class, () -> batcher.submitAndWait(1, Duration.ofMillis(50)));
+            assertThat(ex.getStatusCode().value()).isEqualTo(504);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void submitAndWait_rethrowsTheBatchFailure() {
+        try (var batcher = new MicroBatcher<Integer, String>(
+                "test",
+                items -> {
+                    throw new IllegalStateException("upstream down");
+                },
+                4,
+                Duration.ofMillis(5),
+                100,
+                Duration.ofMillis(100))) {
+
+            IllegalStateException ex = assertThrows(
+                    IllegalStateException.class, () -> batcher.submitAndWait(1, Duration.ofSeconds(1)));
+            assertThat(ex).hasMessage("upstream down");
+        }
+    }
+
+    @Test
+    void closedBatcher_refusesNewItems() {
+        var batcher = new MicroBatcher<Integer, Integer>(
+                "test", items -> items, 4, Duration.ofMillis(5), 100, Duration.ofMillis(100));
+        batcher.close();
+
+        assertThrows(ServiceOverloadedException.class, () -> batcher.submit(1));
+    }
+}
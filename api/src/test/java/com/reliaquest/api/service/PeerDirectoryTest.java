@@ -0,0 +1,90 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PeerDirectoryTest {
+
+    private static final String A = "http://a:8111";
+    private static final String B = "http://b:8111";
+    private static final String C = "http://c:8111";
+
+    private final Set<String> up = new HashSet<>();
+    private final List<String> probed = new ArrayList<>();
+
+    @Test
+    void standalone_alwaysGoesToTheUpstream() {
+        PeerDirectory peers = PeerDirectory.standalone();
+
+        assertThat(peers.isEnabled()).isFalse();
+        assertThat(peers.leaderToFollow()).isEmpty();
+    }
+
+    @Test
+    void lowestUrl_leadsWithoutProbingAnyone() {
+        PeerDirectory peers = directory(A);
+        peers.probeLowerPeers();
+
+        assertThat(probed).isEmpty();
+        assertThat(peers.leader()).isEqualTo(A);
+        assertThat(peers.leaderToFollow()).isEmpty();
+    }
+
+    @Test
+    void unreachableLowerPeers_leaveThisNodeInCharge() {
+        PeerDirectory peers = directory(C);
+        peers.probeLowerPeers();
+
+        assertThat(probed).containsExactly(A, B);
+        assertThat(peers.leader()).isEqualTo(C);
+        assertThat(peers.leaderToFollow()).isEmpty();
+    }
+
+    @Test
+    void lowestLivePeer_leads_untilReportedUnreachable() {
+        up.add(B);
+        PeerDirectory peers = directory(C);
+        peers.probeLowerPeers();
+
+        assertThat(peers.leaderToFollow()).contains(B);
+
+        peers.reportUnreachable(B);
+        assertThat(peers.leaderToFollow()).isEmpty();
+
+        up.add(A);
+        probed.clear();
+        peers.probeLowerPeers();
+        assertThat(probed).containsExactly(A);
+        assertThat(peers.leaderToFollow()).contains(A);
+    }
+
+    @Test
+    void selfMissingFromThePeerList_isRejected() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new PeerDirectory("http://d:8111", List.of(A, B), Duration.ofSeconds(1), "t", this::probe));
+    }
+
+    @Test
+    void peersWithoutAToken_areRejected() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new PeerDirectory(A, List.of(A, B), Duration.ofSeconds(1), " ", this::probe));
+    }
+
+    private boolean probe(String peer) {
+        probed.add(peer);
+        return up.contains(peer);
+    }
+
+    private PeerDirectory directory(String self) {
+        return new PeerDirectory(self, List.of(C, B, A), Duration.ofSeconds(1), "secret", this::probe);
+    }
+}
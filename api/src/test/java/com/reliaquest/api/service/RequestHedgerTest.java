@@ -0,0 +1,171 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RequestHedgerTest {
+
+    @Test
+    void disabled_runsTheAttemptOnTheCallerThread() {
+        RequestHedger hedger = RequestHedger.disabled();
+        Thread caller = Thread.currentThread();
+
+        assertThat(hedger.execute(() -> Thread.currentThread() == caller)).isTrue();
+    }
+
+    @Test
+    void slowPrimary_isRacedByAHedge_andTheFasterAnswerWins() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestHedger hedger = new RequestHedger(true, 0.95, Duration.ofMillis(50), 0.5, 64, registry);
+        try {
+            warmUp(hedger);
+
+            AtomicInteger attempts = new AtomicInteger();
+            long start = System.nanoTime();
+            String result = hedger.execute(() -> {
+                if (attempts.getAndIncrement() == 0) {
+                    sleep(2_000);
+                    return "slow";
+                }
+                return "fast";
+            });
+
+            assertThat(result).isEqualTo("fast");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1_000));
+            assertThat(registry.counter("api.upstream.hedge.sent").count()).isEqualTo(1);
+            assertThat(registry.counter("api.upstream.hedge.won").count()).isEqualTo(1);
+        } finally {
+            hedger.shutdown();
+        }
+    }
+
+    @Test
+    void losingAttempt_isCancelledOnceTheHedgeWins() throws Exception {
+        RequestHedger hedger = new RequestHedger(true, 0.95, Duration.ofMillis(50), 0.5, 64, new SimpleMeterRegistry());
+        try {
+            warmUp(hedger);
+
+            AtomicInteger attempts = new AtomicInteger();
+            CountDownLatch loserInterrupted = new CountDownLatch(1);
+            String result = hedger.execute(() -> {
+                if (attempts.getAndIncrement() > 0) {
+                    return "fast";
+                }
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    loserInterrupted.countDown();
+                }
+                return "slow";
+            });
+
+            assertThat(result).isEqualTo("fast");
+            assertThat(loserInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            hedger.shutdown();
+        }
+    }
+
+    @Test
+    void saturatedPool_runsThePrimaryOnTheCallerThread_andDropsTheHedge() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestHedger hedger = new RequestHedger(true, 0.95, Duration.ofMillis(5), 0.5, 1, registry);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            warmUp(hedger);
+            CountDownLatch holding = new CountDownLatch(1);
+            Future<String> held = caller.submit(() -> hedger.execute(() -> {
+                holding.countDown();
+                await(release);
+                return "held";
+            }));
+            assertThat(holding.await(1, TimeUnit.SECONDS)).isTrue();
+
+            Thread self = Thread.currentThread();
+            assertThat(hedger.execute(() -> Thread.currentThread() == self)).isTrue();
+            assertThat(registry.counter("api.upstream.hedge.rejected", "attempt", "primary").count())
+                    .isEqualTo(1);
+            assertThat(registry.counter("api.upstream.hedge.sent").count()).isZero();
+
+            // The held request's hedge finds no thread either, and is dropped.
+            Thread.sleep(50);
+            assertThat(registry.counter("api.upstream.hedge.rejected", "attempt", "hedge").count())
+                    .isEqualTo(1);
+            assertThat(registry.counter("api.upstream.hedge.sent").count()).isZero();
+
+            release.countDown();
+            assertThat(held.get(1, TimeUnit.SECONDS)).isEqualTo("held");
+        } finally {
+            release.countDown();
+            caller.shutdownNow();
+            hedger.shutdown();
+        }
+    }
+
+    @Test
+    void emptyBudget_suppressesHedges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestHedger hedger = new RequestHedger(true, 0.95, Duration.ofMillis(50), 0, 64, registry);
+        try {
+            warmUp(hedger);
+
+            assertThat(hedger.execute(() -> {
+                        sleep(100);
+                        return "primary";
+                    }))
+                    .isEqualTo("primary");
+            assertThat(registry.counter("api.upstream.hedge.sent").count()).isZero();
+            assertThat(registry.counter("api.upstream.hedge.budget_exhausted").count())
+                    .isEqualTo(1);
+        } finally {
+            hedger.shutdown();
+        }
+    }
+
+    @Test
+    void failure_surfacesTheAttemptsException() {
+        RequestHedger hedger = new RequestHedger(true, 0.95, Duration.ofMillis(5), 0.5, 64, new SimpleMeterRegistry());
+        try {
+            IllegalStateException ex = assertThrows(IllegalStateException.class, () -> hedger.execute(() -> {
+                throw new IllegalStateException("upstream down");
+            }));
+            assertThat(ex).hasMessage("upstream down");
+        } finally {
+            hedger.shutdown();
+        }
+    }
+
+    private static void warmUp(RequestHedger hedger) {
+        for (int i = 0; i < 40; i++) {
+            hedger.execute(() -> "warm");
+        }
+        assertThat(hedger.hedgeDelayNanos()).isPositive();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RosterAggregatesTest {
+
+    private static Employee emp(String name, Integer salary) {
+        return Employee.builder().name(name).salary(salary).build();
+    }
+
+    @Test
+    void topEarners_keepsHighestK_sortedDescending() {
+        List<Employee> roster = List.of(emp("a", 10), emp("b", 50), emp("d", 30), emp("e", 40));
+
+        assertThat(RosterAggregates.topEarners(roster, 3))
+                .extracting(Employee::getName)
+                .containsExactly("b", "e", "d");
+    }
+
+    @Test
+    void topEarners_ordersLikeTheOriginalSort_nullSalariesFirst_tiesInRosterOrder() {
+        List<Employee> roster = List.of(
+                emp("a", 10), emp("t1", 50), emp("n1", null), emp("t2", 50), emp("b", 20), emp("t3", 50),
+                emp("n2", null));
+        Comparator<Employee> originalOrder = Comparator.comparing(
+                        Employee::getSalary, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+                .reversed();
+        List<String> original = roster.stream()
+                .sorted(originalOrder)
+                .limit(5)
+                .map(Employee::getName)
+                .toList();
+
+        assertThat(RosterAggregates.topEarners(roster, 5))
+                .extracting(Employee::getName)
+                .containsExactly("n1", "n2", "t1", "t2", "t3")
+                .isEqualTo(original);
+    }
+
+    @Test
+    void mergeTopEarners_breaksTiesByShardOrder() {
+        List<Employee> shardA = RosterAggregates.topEarners(List.of(emp("a1", 50), emp("a2", 50)), 2);
+        List<Employee> shardB = RosterAggregates.topEarners(List.of(emp("b1", 50), emp("b2", 60)), 2);
+
+        assertThat(RosterAggregates.mergeTopEarners(List.of(shardA, shardB), 3))
+                .extracting(Employee::getName)
+                .containsExactly("b2", "a1", "a2");
+    }
+
+    @Test
+    void mergeTopEarners_mergesPerShardPartials() {
+        List<Employee> shardA = RosterAggregates.topEarners(List.of(emp("a1", 90), emp("a2", 20), emp("a3", 70)), 2);
+        List<Employee> shardB = RosterAggregates.topEarners(List.of(emp("b1", 80), emp("b2", 95)), 2);
+        List<Employee> shardC = List.of();
+
+        assertThat(RosterAggregates.mergeTopEarners(List.of(shardA, shardB, shardC), 3))
+                .extracting(Employee::getName)
+                .containsExactly("b2", "a1", "b1");
+    }
+
+    @Test
+    void nameContains_matchesIgnoringCase_inRosterOrder() {
+        List<Employee> roster = List.of(emp("Alice", 1), emp(null, 2), emp("Bob", 3), emp("Sally", 4));
+
+        assertThat(RosterAggregates.nameContains(roster, "AL"))
+                .extracting(Employee::getName)
+                .containsExactly("Alice", "Sally");
+    }
+
+    @Test
+    void maxSalary_ignoresMissingSalaries() {
+        assertThat(RosterAggregates.maxSalary(List.of(emp("a", null), emp("b", 7)))).isEqualTo(7);
+        assertThat(RosterAggregates.maxSalary(List.of())).isZero();
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class RosterWarmUpTest {
+
+    private final EmployeeClient employeeClient = mock(EmployeeClient.class);
+
+    @Test
+    void notReadyUntilTheRosterIsLoaded() {
+        RosterWarmUp warmUp = warmUp(3, true);
+        given(employeeClient.getAll()).willReturn(List.of(emp("Alice", 100)));
+
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        warmUp.warmUp();
+
+        assertThat(warmUp.state()).isEqualTo(RosterWarmUp.State.WARM);
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(warmUp.health().getDetails()).containsEntry("employees", 1);
+    }
+
+    @Test
+    void rateLimited_retriesAfterTheUpstreamsRetryAfter() {
+        RosterWarmUp warmUp = warmUp(3, true);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "0");
+        given(employeeClient.getAll())
+                .willThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", headers, null, null))
+                .willReturn(List.of(emp("Alice", 100)));
+
+        warmUp.warmUp();
+
+        assertThat(warmUp.state()).isEqualTo(RosterWarmUp.State.WARM);
+        assertThat(warmUp.attempts()).isEqualTo(2);
+    }
+
+    @Test
+    void givingUp_reportsReadyOnlyWhenConfiguredTo() {
+        given(employeeClient.getAll()).willThrow(new ResourceAccessException("Connection refused"));
+
+        RosterWarmUp lenient = warmUp(2, true);
+        lenient.warmUp();
+        assertThat(lenient.state()).isEqualTo(RosterWarmUp.State.FAILED);
+        assertThat(lenient.health().getStatus()).isEqualTo(Status.UP);
+
+        RosterWarmUp strict = warmUp(2, false);
+        strict.warmUp();
+        assertThat(strict.health().getStatus()).isEqualTo(Status.DOWN);
+        assertThat(strict.health().getDetails()).containsEntry("lastError", "Connection refused");
+    }
+
+    private RosterWarmUp warmUp(int maxAttempts, boolean readyOnFailure) {
+        return new RosterWarmUp(
+                employeeClient,
+                new RosterQueries(employeeClient),
+                true,
+                maxAttempts,
+                Duration.ZERO,
+                Duration.ofMillis(1),
+                Duration.ofMillis(4),
+                readyOnFailure);
+    }
+
+    private static Employee emp(String name, Integer salary) {
+        return Employee.builder().id("1").name(name).salary(salary).build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryReport;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SalaryAnalyticsTest {
+
+    @Test
+    void sketch_quantilesStayWithinTheRelativeAccuracy() {
+        SalarySketch sketch = new SalarySketch();
+        for (int salary = 1_000; salary <= 100_000; salary++) {
+            sketch.add(salary);
+        }
+
+        assertThat(sketch.count()).isEqualTo(99_001);
+        assertThat(sketch.quantile(0.5)).isCloseTo(50_500, within(50_500 * 0.01));
+        assertThat(sketch.quantile(0.99)).isCloseTo(99_010, within(99_010 * 0.01));
+        assertThat(sketch.quantile(1)).isCloseTo(100_000, within(100_000 * 0.01));
+    }
+
+    @Test
+    void sketch_removeUndoesAdd_andMergeCombines() {
+        SalarySketch low = new SalarySketch();
+        SalarySketch high = new SalarySketch();
+        for (int i = 0; i < 100; i++) {
+            low.add(10_000);
+            high.add(90_000);
+        }
+        high.add(5);
+        high.remove(5);
+
+        low.merge(high);
+
+        assertThat(low.count()).isEqualTo(200);
+        assertThat(low.quantile(0)).isCloseTo(10_000, within(100.0));
+        assertThat(low.quantile(1)).isCloseTo(90_000, within(900.0));
+    }
+
+    @Test
+    void report_followsIncrementalRosterChanges() {
+        SalaryAnalytics analytics = new SalaryAnalytics();
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            roster.add(employee("e" + i, "Engineer", 100_000, 30));
+        }
+        Employee intern = employee("i1", "Intern", 20_000, 19);
+        roster.add(intern);
+        analytics.onRosterChange(List.of(), roster);
+
+        // The intern is promoted: the update arrives as the old row removed and the new row added.
+        analytics.onRosterChange(List.of(intern), List.of(employee("i1", "Engineer", 80_000, 19)));
+        SalaryReport report = analytics.report();
+
+        assertThat(report.employees()).isEqualTo(11);
+        assertThat(report.titles())
+                .singleElement()
+                .satisfies(title -> {
+                    assertThat(title.title()).isEqualTo("Engineer");
+                    assertThat(title.employees()).isEqualTo(11);
+                    assertThat(title.meanSalary()).isCloseTo(1_080_000 / 11.0, within(0.01));
+                });
+        assertThat(report.ageBands())
+                .extracting(SalaryReport.AgeBandStats::band, SalaryReport.AgeBandStats::employees)
+                .startsWith(
+                        org.assertj.core.groups.Tuple.tuple("16-24", 1L),
+                        org.assertj.core.groups.Tuple.tuple("25-34", 10L));
+        assertThat(report.ageBands().get(0).percentiles().get("p50")).isCloseTo(80_000, within(800.0));
+        assertThat(report.percentiles().get("p99")).isCloseTo(100_000, within(1_000.0));
+    }
+
+    private static Employee employee(String id, String title, int salary, int age) {
+        return Employee.builder()
+                .id(id)
+                .name(id)
+                .title(title)
+                .salary(salary)
+                .age(age)
+                .build();
+    }
+}
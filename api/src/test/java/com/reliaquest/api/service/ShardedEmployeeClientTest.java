@@ -0,0 +1,182 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+class ShardedEmployeeClientTest {
+
+    private static final List<String> SHARDS =
+            List.of("http://shard-0:8112", "http://shard-1:8112", "http://shard-2:8112");
+
+    /*
+     * Owning shard among three for fixed ids, two with negative hash codes. The server's EmployeeIdGeneratorTest
+     * asserts the same table against the rule it generates ids with.
+     */
+    private static final Map<String, Integer> SHARD_OF_THREE = Map.of(
+            "00000000-0000-0000-0000-000000000000", 0,
+            "00000000-0000-0000-0000-000000000001", 1,
+            "00000000-0000-0000-0000-000000000002", 2,
+            "3f2504e0-4f89-11d3-9a0c-0305e82c3301", 0,
+            "7d444840-9dc0-11d1-b245-5ffdce74fad2", 1,
+            "f47ac10b-58cc-4372-a567-0e02b2c3d479", 0);
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private MockRestServiceServer server;
+    private EmployeeClient client;
+
+    @BeforeEach
+    void setup() {
+        server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        client = new EmployeeClient(restTemplate, SHARDS, false, new EmployeeNameIndex(), Duration.ZERO, Duration.ZERO);
+    }
+
+    @AfterEach
+    void shutdown() {
+        client.shutdown();
+    }
+
+    @Test
+    void shardIndexOf_followsTheUpstreamsIdRule() {
+        SHARD_OF_THREE.forEach((id, shard) -> assertThat(client.shardIndexOf(id)).as(id).isEqualTo(shard));
+        for (int i = 0; i < 100; i++) {
+            UUID id = UUID.randomUUID();
+            assertThat(client.shardIndexOf(id.toString())).isEqualTo(Math.floorMod(id.hashCode(), 3));
+        }
+    }
+
+    @Test
+    void getById_goesToTheOwningShardOnly() {
+        String id = "7d444840-9dc0-11d1-b245-5ffdce74fad2";
+        server.expect(requestTo(SHARDS.get(1) + "/api/v1/employee/" + id))
+                .andRespond(withSuccess("""
+                        {"data":{"id":"%s","employee_name":"Alice"},"status":"ok"}
+                        """.formatted(id), MediaType.APPLICATION_JSON));
+
+        assertThat(client.getById(id)).map(Employee::getName).contains("Alice");
+        server.verify();
+    }
+
+    @Test
+    void getAll_concatenatesEveryShardInShardOrder() {
+        expectRosters(2);
+
+        assertThat(client.getAll())
+                .extracting(Employee::getName)
+                .containsExactly("s0-0", "s0-1", "s1-0", "s1-1", "s2-0", "s2-1");
+        server.verify();
+    }
+
+    @Test
+    void getAll_failsWhenAnyShardFails() {
+        server.expect(requestTo(SHARDS.get(0) + "/api/v1/employee"))
+                .andRespond(withSuccess(roster(0, 1), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(SHARDS.get(1) + "/api/v1/employee")).andRespond(withServerError());
+        server.expect(requestTo(SHARDS.get(2) + "/api/v1/employee"))
+                .andRespond(withSuccess(roster(2, 1), MediaType.APPLICATION_JSON));
+
+        assertThrows(HttpServerErrorException.class, () -> client.getAll());
+    }
+
+    @Test
+    void create_spreadsAcrossShardsRoundRobin() {
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        for (int round = 0; round < 2; round++) {
+            for (String shard : SHARDS) {
+                server.expect(requestTo(shard + "/api/v1/employee"))
+                        .andExpect(method(HttpMethod.POST))
+                        .andRespond(withSuccess("""
+                                {"data":{"id":"%s","employee_name":"Alice"},"status":"ok"}
+                                """.formatted(UUID.randomUUID()), MediaType.APPLICATION_JSON));
+            }
+        }
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        input.setName("Alice");
+
+        for (int i = 0; i < 2 * SHARDS.size(); i++) {
+            client.create(input);
+        }
+        server.verify();
+    }
+
+    @Test
+    void getByIds_sendsOneLookupPerOwningShard() {
+        String a = "00000000-0000-0000-0000-000000000000";
+        String b = "3f2504e0-4f89-11d3-9a0c-0305e82c3301";
+        String c = "00000000-0000-0000-0000-000000000001";
+        server.expect(requestTo(SHARDS.get(0) + "/api/v1/employee/lookup"))
+                .andExpect(jsonPath("$.ids", containsInAnyOrder(a, b)))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"%s","employee_name":"A"},{"id":"%s","employee_name":"B"}],"status":"ok"}
+                        """.formatted(a, b), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(SHARDS.get(1) + "/api/v1/employee/lookup"))
+                .andExpect(jsonPath("$.ids", containsInAnyOrder(c)))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"%s","employee_name":"C"}],"status":"ok"}
+                        """.formatted(c), MediaType.APPLICATION_JSON));
+
+        Map<String, Employee> found = client.getByIds(List.of(a, c, b));
+
+        assertThat(found).containsOnlyKeys(a, b, c);
+        server.verify();
+    }
+
+    @Test
+    void topEarnerNames_mergesEveryShardsTopTen() {
+        // Shard k's i-th employee earns 100 - (3i + k), so the global order interleaves the shards.
+        expectRosters(5);
+
+        assertThat(new RosterQueries(client).topEarnerNames())
+                .containsExactly(
+                        "s0-0", "s1-0", "s2-0", "s0-1", "s1-1", "s2-1", "s0-2", "s1-2", "s2-2", "s0-3");
+        server.verify();
+    }
+
+    @Test
+    void nameSearch_seesEveryShard() {
+        expectRosters(3);
+
+        assertThat(RosterAggregates.nameContains(client.getAll(), "-1"))
+                .extracting(Employee::getName)
+                .containsExactly("s0-1", "s1-1", "s2-1");
+        server.verify();
+    }
+
+    private void expectRosters(int perShard) {
+        for (int shard = 0; shard < SHARDS.size(); shard++) {
+            server.expect(requestTo(SHARDS.get(shard) + "/api/v1/employee"))
+                    .andExpect(method(HttpMethod.GET))
+                    .andRespond(withSuccess(roster(shard, perShard), MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private static String roster(int shard, int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> """
+                        {"id":"%s","employee_name":"s%d-%d","employee_salary":%d}"""
+                        .formatted(UUID.randomUUID(), shard, i, 100 - (3 * i + shard)))
+                .collect(Collectors.joining(",", "{\"data\":[", "],\"status\":\"ok\"}"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class AccessLogFilterTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger("access");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attach() {
+        appender.start();
+        accessLogger.addAppender(appender);
+        accessLogger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void detach() {
+        accessLogger.detachAppender(appender);
+        accessLogger.setLevel(null);
+        ((Logger) LoggerFactory.getLogger("access.api.v1.employee")).setLevel(null);
+    }
+
+    @Test
+    void logsOnALoggerNamedAfterTheMatchedRoute() throws Exception {
+        new AccessLogFilter(1).doFilter(request("/api/v1/employee/{id}"), response(200), new MockFilterChain());
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLoggerName()).isEqualTo("access.api.v1.employee.id");
+            assertThat(event.getFormattedMessage()).contains("status=200", "sample=1");
+        });
+    }
+
+    @Test
+    void samplesSuccesses_butAlwaysLogsErrors() throws Exception {
+        AccessLogFilter filter = new AccessLogFilter(1_000_000);
+
+        for (int i = 0; i < 100; i++) {
+            filter.doFilter(request("/api/v1/employee"), response(200), new MockFilterChain());
+        }
+        filter.doFilter(request("/api/v1/employee"), response(503), new MockFilterChain());
+
+        assertThat(appender.list).last().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getFormattedMessage()).contains("status=503");
+        });
+        assertThat(appender.list).hasSizeLessThan(3);
+    }
+
+    @Test
+    void routeLevelsApplyPerEndpoint() throws Exception {
+        ((Logger) LoggerFactory.getLogger("access.api.v1.employee")).setLevel(Level.WARN);
+        AccessLogFilter filter = new AccessLogFilter(1);
+
+        filter.doFilter(request("/api/v1/employee/{id}"), response(404), new MockFilterChain());
+        filter.doFilter(request("/api/v1/analytics/salary"), response(200), new MockFilterChain());
+
+        assertThat(appender.list)
+                .extracting(ILoggingEvent::getLoggerName)
+                .containsExactly("access.api.v1.analytics.salary");
+    }
+
+    private static MockHttpServletRequest request(String route) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", route);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route);
+        return request;
+    }
+
+    private static MockHttpServletResponse response(int status) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        return response;
+    }
+}
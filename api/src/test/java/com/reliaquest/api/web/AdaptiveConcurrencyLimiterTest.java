@@ -0,0 +1,73 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.web.AdaptiveConcurrencyLimiter.Permit;
+import com.reliaquest.api.web.AdaptiveConcurrencyLimiter.Priority;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void rejectsOnceTheLimitIsInFlight_andAdmitsAgainAfterRelease() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 100, 0);
+        List<Permit> permits = acquire(limiter, Priority.HIGH, 4);
+
+        assertThat(permits).hasSize(4);
+        assertThat(limiter.tryAcquire(Priority.HIGH)).isEmpty();
+
+        permits.get(0).onIgnore();
+        assertThat(limiter.tryAcquire(Priority.HIGH)).isPresent();
+    }
+
+    @Test
+    void lowPriority_leavesReservedHeadroomForHighPriority() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 100, 0.25);
+
+        assertThat(acquire(limiter, Priority.LOW, 8)).hasSize(6);
+        assertThat(limiter.tryAcquire(Priority.LOW)).isEmpty();
+        assertThat(acquire(limiter, Priority.HIGH, 8)).hasSize(2);
+    }
+
+    @Test
+    void drops_shrinkTheLimit_butNotBelowTheMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 100, 0);
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire(Priority.HIGH).orElseThrow().onDropped();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void completingAPermitTwice_releasesOnlyOnce() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 100, 0);
+        Permit permit = limiter.tryAcquire(Priority.HIGH).orElseThrow();
+        limiter.tryAcquire(Priority.HIGH).orElseThrow();
+
+        permit.onSuccess();
+        permit.onDropped();
+
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void saturatedAndFast_growsTheLimit() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 100, 0);
+        for (int round = 0; round < 20; round++) {
+            List<Permit> permits = acquire(limiter, Priority.HIGH, limiter.getLimit());
+            Thread.sleep(1);
+            permits.forEach(Permit::onSuccess);
+        }
+        assertThat(limiter.getLimit()).isGreaterThan(4);
+    }
+
+    private static List<Permit> acquire(AdaptiveConcurrencyLimiter limiter, Priority priority, int attempts) {
+        List<Permit> permits = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            limiter.tryAcquire(priority).ifPresent(permits::add);
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class ConcurrencyLimitInterceptorTest {
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 0);
+    private final ConcurrencyLimitInterceptor interceptor =
+            new ConcurrencyLimitInterceptor(limiter, 1, new SimpleMeterRegistry());
+
+    @Test
+    void upstreamFailure_cutsTheLimit() throws Exception {
+        complete(new MockHttpServletRequest(), 502);
+
+        assertThat(limiter.getLimit()).isLessThan(20);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void localRejection_releasesWithoutCuttingTheLimit() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(ConcurrencyLimitInterceptor.LOCAL_REJECTION_ATTRIBUTE, true);
+
+        complete(request, 503);
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void upstreamThrottling_cutsTheLimit() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(ConcurrencyLimitInterceptor.UPSTREAM_THROTTLED_ATTRIBUTE, true);
+
+        complete(request, 429);
+
+        assertThat(limiter.getLimit()).isLessThan(20);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void clientError_releasesWithoutCuttingTheLimit() throws Exception {
+        complete(new MockHttpServletRequest(), 404);
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private void complete(MockHttpServletRequest request, int status) throws Exception {
+        HandlerMethod handler = new HandlerMethod(new Handler(), Handler.class.getMethod("handle"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handler);
+        response.setStatus(status);
+        interceptor.afterCompletion(request, response, handler, null);
+    }
+
+    static class Handler {
+        public void handle() {}
+    }
+}
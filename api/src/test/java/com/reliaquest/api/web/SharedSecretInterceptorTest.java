@@ -0,0 +1,41 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class SharedSecretInterceptorTest {
+
+    private final SharedSecretInterceptor interceptor = new SharedSecretInterceptor("X-Admin-Token", "s3cret");
+
+    @Test
+    void matchingSecret_isAdmitted() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Admin-Token", "s3cret");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void missingOrWrongSecret_isRefusedWith401() {
+        MockHttpServletRequest wrong = new MockHttpServletRequest();
+        wrong.addHeader("X-Admin-Token", "s3cre");
+        MockHttpServletResponse wrongResponse = new MockHttpServletResponse();
+        MockHttpServletResponse missingResponse = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(wrong, wrongResponse, new Object())).isFalse();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), missingResponse, new Object())).isFalse();
+        assertThat(wrongResponse.getStatus()).isEqualTo(401);
+        assertThat(missingResponse.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void blankSecret_isRejectedUpFront() {
+        assertThrows(IllegalArgumentException.class, () -> new SharedSecretInterceptor("X-Admin-Token", " "));
+    }
+}
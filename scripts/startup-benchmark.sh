@@ -0,0 +1,83 @@
+#!/usr/bin/env bash
+#
+# Compares cold start time and resident memory of one module across launch modes:
+#   jar      java -jar <boot jar>
+#   aot      java -Dspring.aot.enabled=true -jar <boot jar>
+#   cds      build/cds/run.sh (AOT + AppCDS archive)
+#   native   build/native/nativeCompile/<binary>, when it was built with -Pnative
+#
+# Usage: scripts/startup-benchmark.sh [api|server] [runs]
+# Build first: ./gradlew -Paot :<module>:bootJar :<module>:cdsLauncher   (and -Pnative :<module>:nativeCompile)
+#
+# Start time is the one Spring Boot logs ("Started ... in N seconds"); RSS is read from /proc right after that line
+# appears, so this needs Linux. Results are medians over the runs. The api does not need the mock server running to
+# start.
+set -euo pipefail
+
+MODULE="${1:-api}"
+RUNS="${2:-5}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+BUILD="$ROOT/$MODULE/build"
+PORT=$([ "$MODULE" = "api" ] && echo 18111 || echo 18112)
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { if (NR == 0) { print "-" } else if (NR % 2) { print v[(NR + 1) / 2] } else { print (v[NR / 2] + v[NR / 2 + 1]) / 2 } }'
+}
+
+# Runs one launch, prints "<started seconds> <rss MiB>".
+measure() {
+    local log
+    log="$(mktemp)"
+    "$@" --server.port="$PORT" >"$log" 2>&1 &
+    local pid=$!
+    local started=""
+    for _ in $(seq 1 600); do
+        started="$(grep -oE 'Started [A-Za-z]+ in [0-9.]+ seconds' "$log" | grep -oE '[0-9.]+' | head -1 || true)"
+        [ -n "$started" ] && break
+        kill -0 "$pid" 2>/dev/null || break
+        sleep 0.1
+    done
+    local rss_kb
+    rss_kb="$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status" 2>/dev/null || echo 0)"
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    if [ -z "$started" ]; then
+        echo "launch failed: $*" >&2
+        tail -20 "$log" >&2
+        rm -f "$log"
+        return 1
+    fi
+    rm -f "$log"
+    echo "$started $((rss_kb / 1024))"
+}
+
+bench() {
+    local name="$1"
+    shift
+    local times=() rss=()
+    for _ in $(seq 1 "$RUNS"); do
+        read -r t r < <(measure "$@") || return 0
+        times+=("$t")
+        rss+=("$r")
+    done
+    printf '| %-6s | %12s | %10s |\n' "$name" \
+        "$(printf '%s\n' "${times[@]}" | median)" "$(printf '%s\n' "${rss[@]}" | median)"
+}
+
+JAR="$(ls "$BUILD"/libs/*.jar 2>/dev/null | grep -vE -- '-(plain|aot)\.jar$' | head -1 || true)"
+[ -n "$JAR" ] || { echo "No boot jar in $BUILD/libs; run ./gradlew :$MODULE:bootJar" >&2; exit 1; }
+
+CPU="$(awk -F': ' '/^model name/ { print $2; exit }' /proc/cpuinfo 2>/dev/null || true)"
+echo "$MODULE, $RUNS runs each, $(java -version 2>&1 | head -1), ${CPU:-unknown CPU} x $(nproc) cores"
+echo
+printf '| %-6s | %12s | %10s |\n' mode "started (s)" "RSS (MiB)"
+printf '|--------|--------------|------------|\n'
+bench jar java -jar "$JAR"
+bench aot java -Dspring.aot.enabled=true -jar "$JAR"
+if [ -x "$BUILD/cds/run.sh" ]; then
+    bench cds "$BUILD/cds/run.sh"
+fi
+NATIVE="$(find "$BUILD/native/nativeCompile" -maxdepth 1 -type f -perm -u+x 2>/dev/null | head -1 || true)"
+if [ -n "$NATIVE" ]; then
+    bench native "$NATIVE"
+fi
@@ -1,11 +1,15 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.service.EmployeeIdGenerator;
+import com.reliaquest.server.service.FaultInjector;
+import com.reliaquest.server.web.AccessLogFilter;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import com.reliaquest.server.web.RateLimitInterceptor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
@@ -14,8 +18,10 @@ import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -25,6 +31,18 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    @Value("${mock.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${mock.rate-limit.capacity:10}")
+    private int rateLimitCapacity;
+
+    @Value("${mock.rate-limit.refill-per-second:2}")
+    private double rateLimitRefillPerSecond;
+
+    @Value("${mock.rate-limit.client-key-header:}")
+    private String rateLimitClientKeyHeader;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
@@ -34,10 +52,11 @@ public class ServerConfiguration implements WebMvcConfigurer {
      * This list is modifiable by design for CRUD operations.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public List<MockEmployee> mockEmployees(
+            Faker faker, EmployeeIdGenerator idGenerator, @Value("${mock.employees.max:20}") int maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
+                Field.field("id", idGenerator::next),
                 Field.field("name", () -> faker.name().fullName()),
                 Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
                 Field.field("age", () -> faker.number().numberBetween(16, 70)),
@@ -52,8 +71,39 @@ public class ServerConfiguration implements WebMvcConfigurer {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
+    /*
+     * Outermost, so its duration covers injected faults and rate limiting too.
+     */
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(
+            @Value("${mock.access-log.enabled:true}") boolean enabled,
+            @Value("${mock.access-log.sample-every:100}") int sampleEvery) {
+        final var registration = new FilterRegistrationBean<>(new AccessLogFilter(sampleEvery));
+        registration.setEnabled(enabled);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /*
+     * Faults apply to the employee api only, never to /admin, so a profile can always be switched off again. As a
+     * filter it runs ahead of the rate limit interceptor, so injected latency delays 429s too.
+     */
+    @Bean
+    public FilterRegistrationBean<FaultInjectionFilter> faultInjectionFilter(
+            FaultInjector faultInjector, ObjectMapper objectMapper) {
+        final var registration = new FilterRegistrationBean<>(new FaultInjectionFilter(faultInjector, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (rateLimitEnabled) {
+            registry.addInterceptor(new RateLimitInterceptor(
+                            rateLimitCapacity,
+                            rateLimitRefillPerSecond,
+                            rateLimitClientKeyHeader.isBlank() ? null : rateLimitClientKeyHeader))
+                    .excludePathPatterns("/admin/**");
+        }
     }
 }
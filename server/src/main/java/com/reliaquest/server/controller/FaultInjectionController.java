@@ -0,0 +1,47 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.service.FaultInjector;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+ * Runtime control of fault injection. Not itself subject to faults or rate limiting.
+ */
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultInjectionController {
+
+    private final FaultInjector faultInjector;
+
+    @GetMapping()
+    public FaultInjectionState getFaults() {
+        return new FaultInjectionState(faultInjector.active(), faultInjector.presets());
+    }
+
+    @PutMapping("/{name}")
+    public ResponseEntity<FaultProfile> activatePreset(@PathVariable String name) {
+        return ResponseEntity.of(faultInjector.activate(name));
+    }
+
+    @PutMapping()
+    public FaultProfile activateCustom(@RequestBody FaultProfile profile) {
+        return faultInjector.activate(profile);
+    }
+
+    @DeleteMapping()
+    public FaultProfile clearFaults() {
+        return faultInjector.activate(FaultProfile.NONE);
+    }
+
+    public record FaultInjectionState(FaultProfile active, Collection<FaultProfile> presets) {}
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Answer to a "changes since version N" query. When {@code resync} is set the requested version is no longer
+ * covered by the change log (or belongs to another server run) and the caller must reload the full roster.
+ */
+public record EmployeeChanges(String epoch, long version, boolean resync, List<EmployeeChange> changes) {
+
+    public static EmployeeChanges resync(String epoch, long version) {
+        return new EmployeeChanges(epoch, version, true, List.of());
+    }
+}
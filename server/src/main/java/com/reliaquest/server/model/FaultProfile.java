@@ -0,0 +1,72 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/*
+ * A named set of adverse behaviors the mock server applies to /api requests, for exercising clients under controlled
+ * upstream conditions:
+ *  - latency: FIXED waits latencyMillis; LOG_NORMAL has median latencyMillis and shape latencySigma; BIMODAL waits
+ *    slowLatencyMillis for a slowFraction of requests and latencyMillis for the rest.
+ *  - errorRate: share of requests answered with errorStatus instead of being handled.
+ *  - truncateRate: share of responses cut off halfway through the body, with the connection dropped.
+ *  - dripBytesPerSecond: when positive, response bodies are written at this rate in small flushed chunks.
+ */
+public record FaultProfile(
+        String name,
+        LatencyDistribution latency,
+        long latencyMillis,
+        double latencySigma,
+        long slowLatencyMillis,
+        double slowFraction,
+        double errorRate,
+        int errorStatus,
+        double truncateRate,
+        int dripBytesPerSecond) {
+
+    public static final FaultProfile NONE = new FaultProfile("none", LatencyDistribution.NONE, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    public static final List<FaultProfile> PRESETS = List.of(
+            NONE,
+            new FaultProfile("fixed-100ms", LatencyDistribution.FIXED, 100, 0, 0, 0, 0, 0, 0, 0),
+            new FaultProfile("log-normal", LatencyDistribution.LOG_NORMAL, 50, 0.8, 0, 0, 0, 0, 0, 0),
+            new FaultProfile("bimodal", LatencyDistribution.BIMODAL, 20, 0, 1000, 0.05, 0, 0, 0, 0),
+            new FaultProfile("flaky", LatencyDistribution.LOG_NORMAL, 50, 0.5, 0, 0, 0.1, 503, 0, 0),
+            new FaultProfile("slow-drip", LatencyDistribution.NONE, 0, 0, 0, 0, 0, 0, 0, 2048),
+            new FaultProfile("truncated", LatencyDistribution.NONE, 0, 0, 0, 0, 0, 0, 0.2, 0));
+
+    public FaultProfile {
+        if (name == null || name.isBlank()) {
+            name = "custom";
+        }
+        if (latency == null) {
+            latency = LatencyDistribution.NONE;
+        }
+        if (errorStatus == 0) {
+            errorStatus = 500;
+        }
+        if (latencyMillis < 0 || slowLatencyMillis < 0 || latencySigma < 0 || dripBytesPerSecond < 0) {
+            throw new IllegalArgumentException("Latencies, sigma and drip rate must not be negative");
+        }
+        if (!isRate(slowFraction) || !isRate(errorRate) || !isRate(truncateRate)) {
+            throw new IllegalArgumentException("slowFraction, errorRate and truncateRate must be within [0, 1]");
+        }
+        if (errorStatus < 400 || errorStatus > 599) {
+            throw new IllegalArgumentException("errorStatus must be a 4xx or 5xx status");
+        }
+    }
+
+    public boolean isNone() {
+        return latency == LatencyDistribution.NONE && errorRate == 0 && truncateRate == 0 && dripBytesPerSecond == 0;
+    }
+
+    private static boolean isRate(double value) {
+        return value >= 0 && value <= 1;
+    }
+
+    public enum LatencyDistribution {
+        NONE,
+        FIXED,
+        LOG_NORMAL,
+        BIMODAL
+    }
+}
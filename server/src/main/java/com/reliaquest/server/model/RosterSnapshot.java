@@ -0,0 +1,17 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+public record RosterSnapshot(String epoch, long version, List<MockEmployee> employees) {
+
+    /**
+     * Strong validator for the roster at {@code version}; identical versions always serialize identically.
+     */
+    public static String etagOf(String epoch, long version) {
+        return "\"" + epoch + "-" + version + "\"";
+    }
+
+    public String etag() {
+        return etagOf(epoch, version);
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.MockEmployee;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Monotonically versioned log of roster mutations. Version 0 is the generated roster; every create or delete bumps the
+ * version by one. Only the most recent changes are retained, older readers are told to resync. The epoch changes with
+ * every server start so clients never apply deltas from a previous run.
+ */
+@Component
+public class EmployeeChangeLog {
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(30);
+
+    @Getter
+    private final String epoch = UUID.randomUUID().toString();
+
+    private final int retained;
+    private final Deque<EmployeeChange> changes = new ArrayDeque<>();
+    private long version;
+
+    public EmployeeChangeLog(@Value("${mock.changes.retained:1000}") int retained) {
+        this.retained = retained;
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    public synchronized long append(EmployeeChange.Type type, MockEmployee employee) {
+        version++;
+        changes.addLast(new EmployeeChange(version, type, employee));
+        if (changes.size() > retained) {
+            changes.removeFirst();
+        }
+        notifyAll();
+        return version;
+    }
+
+    /**
+     * Returns every change after {@code since}. With a positive {@code maxWait} an up-to-date caller is held until a
+     * change arrives or the wait (capped at 30s) runs out, which turns polling into long-polling.
+     */
+    public synchronized EmployeeChanges since(String clientEpoch, long since, Duration maxWait)
+            throws InterruptedException {
+        if (!epoch.equals(clientEpoch) || since > version) {
+            return EmployeeChanges.resync(epoch, version);
+        }
+        final long deadline = System.nanoTime() + min(maxWait, MAX_WAIT).toNanos();
+        while (since == version) {
+            final long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                break;
+            }
+            wait(remainingMillis);
+        }
+        if (since == version) {
+            return new EmployeeChanges(epoch, version, false, List.of());
+        }
+        if (changes.isEmpty() || changes.peekFirst().version() > since + 1) {
+            return EmployeeChanges.resync(epoch, version);
+        }
+        final List<EmployeeChange> newer = new ArrayList<>((int) (version - since));
+        for (EmployeeChange change : changes) {
+            if (change.version() > since) {
+                newer.add(change);
+            }
+        }
+        return new EmployeeChanges(epoch, version, false, newer);
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
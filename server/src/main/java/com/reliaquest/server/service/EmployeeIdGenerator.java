@@ -0,0 +1,47 @@
+package com.reliaquest.server.service;
+
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Generates employee ids owned by this server's shard. When several mock servers act as shards of one roster
+ * (mock.shard.count > 1), each only hands out ids with floorMod(id.hashCode(), count) == index, so a client can route
+ * any by-id call with the same rule. With the default single shard every random UUID qualifies.
+ */
+@Slf4j
+@Component
+public class EmployeeIdGenerator {
+
+    private final int shardCount;
+    private final int shardIndex;
+
+    public EmployeeIdGenerator(
+            @Value("${mock.shard.count:1}") int shardCount, @Value("${mock.shard.index:0}") int shardIndex) {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException(
+                    "Invalid shard configuration: index %d of %d".formatted(shardIndex, shardCount));
+        }
+        this.shardCount = shardCount;
+        this.shardIndex = shardIndex;
+        if (shardCount > 1) {
+            log.info("Serving shard {} of {}", shardIndex, shardCount);
+        }
+    }
+
+    public UUID next() {
+        UUID id;
+        do {
+            id = UUID.randomUUID();
+        } while (shardOf(id, shardCount) != shardIndex);
+        return id;
+    }
+
+    /*
+     * The shard owning id among shardCount; the api's EmployeeClient routes with the same rule.
+     */
+    public static int shardOf(UUID id, int shardCount) {
+        return Math.floorMod(id.hashCode(), shardCount);
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.FaultProfile;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Holds the active fault profile and draws the per-request decisions from it. The profile is switched at runtime
+ * through the admin endpoint; mock.faults.profile picks the one active at startup.
+ */
+@Slf4j
+@Component
+public class FaultInjector {
+
+    private final Map<String, FaultProfile> presets = new LinkedHashMap<>();
+    private final AtomicReference<FaultProfile> active = new AtomicReference<>(FaultProfile.NONE);
+
+    public FaultInjector(@Value("${mock.faults.profile:none}") String initialProfile) {
+        FaultProfile.PRESETS.forEach(preset -> presets.put(preset.name(), preset));
+        activate(initialProfile)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown fault profile: " + initialProfile));
+    }
+
+    public FaultProfile active() {
+        return active.get();
+    }
+
+    public Collection<FaultProfile> presets() {
+        return presets.values();
+    }
+
+    public Optional<FaultProfile> activate(String presetName) {
+        return Optional.ofNullable(presets.get(presetName)).map(this::activate);
+    }
+
+    public FaultProfile activate(FaultProfile profile) {
+        final var previous = active.getAndSet(profile);
+        if (!previous.equals(profile)) {
+            log.info("Fault profile switched from '{}' to {}", previous.name(), profile);
+        }
+        return profile;
+    }
+
+    public long sampleLatencyMillis(FaultProfile profile) {
+        final var random = ThreadLocalRandom.current();
+        return switch (profile.latency()) {
+            case NONE -> 0;
+            case FIXED -> profile.latencyMillis();
+            case LOG_NORMAL -> Math.round(
+                    profile.latencyMillis() * Math.exp(profile.latencySigma() * random.nextGaussian()));
+            case BIMODAL -> random.nextDouble() < profile.slowFraction()
+                    ? profile.slowLatencyMillis()
+                    : profile.latencyMillis();
+        };
+    }
+
+    public boolean shouldFail(FaultProfile profile) {
+        return profile.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < profile.errorRate();
+    }
+
+    public boolean shouldTruncate(FaultProfile profile) {
+        return profile.truncateRate() > 0 && ThreadLocalRandom.current().nextDouble() < profile.truncateRate();
+    }
+}
@@ -3,18 +3,29 @@ package com.reliaquest.server.service;
 import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.RosterSnapshot;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
 
+/*
+ * Roster mutations and snapshots synchronize on this service so that every snapshot matches exactly one change log
+ * version.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,33 +33,83 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
     private final List<MockEmployee> mockEmployees;
 
-    public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+    private final EmployeeChangeLog changeLog;
+
+    private final EmployeeIdGenerator idGenerator;
+
+    private final Map<UUID, MockEmployee> employeesById = new HashMap<>();
+
+    @PostConstruct
+    synchronized void indexEmployees() {
+        mockEmployees.stream()
+                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId()))
+                .forEach(mockEmployee -> employeesById.put(mockEmployee.getId(), mockEmployee));
+    }
+
+    public synchronized List<MockEmployee> getMockEmployees() {
+        return List.copyOf(mockEmployees);
+    }
+
+    public synchronized RosterSnapshot snapshot() {
+        return new RosterSnapshot(changeLog.getEpoch(), changeLog.version(), List.copyOf(mockEmployees));
+    }
+
+    /**
+     * Current roster validator, computed without copying the roster.
+     */
+    public synchronized String currentETag() {
+        return RosterSnapshot.etagOf(changeLog.getEpoch(), changeLog.version());
+    }
+
+    public EmployeeChanges changesSince(String epoch, long version, @NonNull Duration maxWait)
+            throws InterruptedException {
+        // Deliberately not synchronized on the service: a long-poll must not block writers.
+        return changeLog.since(epoch, version, maxWait);
+    }
+
+    public synchronized Optional<MockEmployee> findById(@NonNull UUID uuid) {
+        return Optional.ofNullable(employeesById.get(uuid));
     }
 
-    public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
+    /**
+     * Resolves many ids under one lock acquisition. Unknown ids are skipped; found employees keep request order.
+     */
+    public synchronized List<MockEmployee> findByIds(@NonNull Collection<UUID> uuids) {
+        return uuids.stream()
+                .distinct()
+                .map(employeesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public synchronized MockEmployee create(@NonNull CreateMockEmployeeInput input) {
         final var mockEmployee = MockEmployee.from(
+                idGenerator.next(),
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
         mockEmployees.add(mockEmployee);
+        employeesById.put(mockEmployee.getId(), mockEmployee);
+        changeLog.append(EmployeeChange.Type.CREATED, mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
-    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
+    public synchronized List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        return inputs.stream().map(this::create).toList();
+    }
+
+    public synchronized boolean delete(@NonNull DeleteMockEmployeeInput input) {
         final var mockEmployee = mockEmployees.stream()
                 .filter(employee -> Objects.nonNull(employee.getName())
                         && employee.getName().equalsIgnoreCase(input.getName()))
                 .findFirst();
         if (mockEmployee.isPresent()) {
             mockEmployees.remove(mockEmployee.get());
+            employeesById.remove(mockEmployee.get().getId());
+            changeLog.append(EmployeeChange.Type.DELETED, mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
@@ -0,0 +1,88 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Access log: one key=value line per request on a logger named after the matched route, so levels can be set per
+ * endpoint. {@code /api/v1/employee/{id}} logs on {@code access.api.v1.employee.id}, and
+ * {@code logging.level.access.api.v1.employee} covers every employee route; requests that never reached a handler log
+ * on {@code access.unmatched}.
+ *
+ * <p>Successful requests are sampled, one in {@code sampleEvery} and marked {@code sample=N} so counts can be scaled
+ * back, and a skipped one costs a random draw. 4xx always log at INFO and 5xx at WARN. Nothing is formatted unless the
+ * level is enabled.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = "access";
+    private static final Logger UNMATCHED = LoggerFactory.getLogger(PREFIX + ".unmatched");
+
+    private final int sampleEvery;
+    private final Map<String, Logger> loggersByRoute = new ConcurrentHashMap<>();
+
+    public AccessLogFilter(int sampleEvery) {
+        this.sampleEvery = Math.max(1, sampleEvery);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final long start = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            chain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            log(request, status, System.nanoTime() - start);
+        }
+    }
+
+    private void log(HttpServletRequest request, int status, long elapsedNanos) {
+        final boolean success = status < 400;
+        if (success && sampleEvery > 1 && ThreadLocalRandom.current().nextInt(sampleEvery) != 0) {
+            return;
+        }
+        final var route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        final var logger = route instanceof String pattern
+                ? loggersByRoute.computeIfAbsent(pattern, AccessLogFilter::loggerFor)
+                : UNMATCHED;
+        final String format = "method={} path={} status={} durationMs={} sample={}";
+        final long durationMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (status >= 500) {
+            if (logger.isWarnEnabled()) {
+                logger.warn(format, request.getMethod(), request.getRequestURI(), status, durationMs, 1);
+            }
+        } else if (logger.isInfoEnabled()) {
+            logger.info(
+                    format,
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    status,
+                    durationMs,
+                    success ? sampleEvery : 1);
+        }
+    }
+
+    private static Logger loggerFor(String pattern) {
+        final var name = new StringBuilder(PREFIX);
+        for (String segment : pattern.split("/")) {
+            final var cleaned = segment.replaceAll("[^A-Za-z0-9_-]", "");
+            if (!cleaned.isEmpty()) {
+                name.append('.').append(cleaned);
+            }
+        }
+        return LoggerFactory.getLogger(name.toString());
+    }
+}
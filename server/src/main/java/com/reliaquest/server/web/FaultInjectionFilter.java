@@ -0,0 +1,192 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultInjector;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * Applies the active FaultProfile to each request: a sampled delay before the handler runs, then either an injected
+ * error status, or the real response written slowly (drip) and/or cut off halfway. A truncated response ends with an
+ * exception after the partial body is flushed; the container then closes the connection mid-body, which is what a
+ * client sees when an upstream resets.
+ *
+ * Being a filter, this runs before the RateLimitInterceptor: rate-limited requests are delayed like admitted ones (a
+ * 429 still crosses the network), and injected errors answer without taking a token.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private static final int UNKNOWN_LENGTH_CUTOFF = 256;
+
+    private final FaultInjector faultInjector;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var profile = faultInjector.active();
+        if (profile.isNone()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        sleep(faultInjector.sampleLatencyMillis(profile));
+
+        if (faultInjector.shouldFail(profile)) {
+            log.debug("Injecting {} for {} {}", profile.errorStatus(), request.getMethod(), request.getRequestURI());
+            response.setStatus(profile.errorStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault: " + profile.name()));
+            return;
+        }
+
+        final boolean truncate = faultInjector.shouldTruncate(profile);
+        if (!truncate && profile.dripBytesPerSecond() == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        final var faulty = new FaultyResponse(response, profile, truncate);
+        chain.doFilter(request, faulty);
+        faulty.flushBuffer();
+        if (faulty.truncated) {
+            log.debug("Truncated response to {} {}", request.getMethod(), request.getRequestURI());
+            throw new IOException("Injected connection reset");
+        }
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while injecting latency");
+        }
+    }
+
+    private static final class FaultyResponse extends HttpServletResponseWrapper {
+
+        private final FaultProfile profile;
+        private final boolean truncate;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+        private boolean truncated;
+
+        FaultyResponse(HttpServletResponse response, FaultProfile profile, boolean truncate) {
+            super(response);
+            this.profile = profile;
+            this.truncate = truncate;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new FaultyOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(
+                        new OutputStreamWriter(getOutputStream(), Charset.forName(getCharacterEncoding())));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+
+        private long cutoff() {
+            final var contentLength = getHeader(HttpHeaders.CONTENT_LENGTH);
+            return contentLength == null ? UNKNOWN_LENGTH_CUTOFF : Long.parseLong(contentLength) / 2;
+        }
+
+        private final class FaultyOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+            private long written;
+
+            FaultyOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                if (truncated) {
+                    return;
+                }
+                int end = offset + length;
+                if (truncate) {
+                    final long allowed = Math.max(0, cutoff() - written);
+                    if (allowed < length) {
+                        end = offset + (int) allowed;
+                        truncated = true;
+                    }
+                }
+                final int rate = profile.dripBytesPerSecond();
+                // Ten chunks a second keeps the drip smooth without a flush per byte.
+                final int chunk = rate > 0 ? Math.max(1, rate / 10) : end - offset;
+                for (int position = offset; position < end; position += chunk) {
+                    final int size = Math.min(chunk, end - position);
+                    delegate.write(bytes, position, size);
+                    written += size;
+                    if (rate > 0) {
+                        delegate.flush();
+                        sleep(size * 1000L / rate);
+                    }
+                }
+                if (truncated) {
+                    delegate.flush();
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                delegate.setWriteListener(listener);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/*
+ * Admits requests through a token bucket, either one shared by every caller or one per client key (the configured
+ * header, falling back to the remote address). Every response carries RateLimit-Limit, RateLimit-Remaining and
+ * RateLimit-Reset; a rejected one is a 429 with Retry-After, so clients can wait exactly as long as needed.
+ */
+@Slf4j
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+
+    private static final String GLOBAL_KEY = "";
+    private static final int MAX_TRACKED_CLIENTS = 10_000;
+
+    private final int capacity;
+    private final double refillPerSecond;
+    private final String clientKeyHeader;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param clientKeyHeader header naming the client; {@code null} for one bucket shared by all callers
+     */
+    public RateLimitInterceptor(int capacity, double refillPerSecond, String clientKeyHeader) {
+        this(capacity, refillPerSecond, clientKeyHeader, System::nanoTime);
+    }
+
+    RateLimitInterceptor(int capacity, double refillPerSecond, String clientKeyHeader, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.clientKeyHeader = clientKeyHeader;
+        this.nanoClock = nanoClock;
+        log.info(
+                "Rate limit: {} request burst, {} per second refill, {}",
+                capacity,
+                refillPerSecond,
+                clientKeyHeader == null ? "shared by all clients" : "per client (" + clientKeyHeader + ")");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final long now = nanoClock.getAsLong();
+        final var decision = bucketFor(clientKey(request), now).tryConsume(now);
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.limit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(ceilSeconds(decision.reset())));
+        if (!decision.allowed()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ceilSeconds(decision.retryAfter())));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return false;
+        }
+        return true;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        if (clientKeyHeader == null) {
+            return GLOBAL_KEY;
+        }
+        final var key = request.getHeader(clientKeyHeader);
+        return StringUtils.hasText(key) ? key : request.getRemoteAddr();
+    }
+
+    private TokenBucket bucketFor(String key, long now) {
+        final var bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= MAX_TRACKED_CLIENTS) {
+            // A full bucket is indistinguishable from a new one, so dropping those forgets nothing.
+            buckets.values().removeIf(candidate -> candidate.isFull(now));
+        }
+        return buckets.computeIfAbsent(key, ignored -> new TokenBucket(capacity, refillPerSecond, now));
+    }
+
+    private static long ceilSeconds(Duration duration) {
+        return Math.max(0, (duration.toMillis() + 999) / 1000);
+    }
+}
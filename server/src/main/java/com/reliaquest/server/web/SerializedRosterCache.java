@@ -0,0 +1,68 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.model.RosterSnapshot;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/*
+ * Holds the list endpoint's response body, already serialized by the MVC ObjectMapper and already gzipped, for the
+ * latest roster version. Entries are keyed by ETag, so a create or delete (which bumps the version) invalidates the
+ * cached bytes; repeated reads of an unchanged roster are served without Jackson or deflate.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SerializedRosterCache {
+
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<Entry> latest = new AtomicReference<>();
+
+    public Entry get(String currentETag, Supplier<RosterSnapshot> snapshotSupplier) {
+        final var cached = latest.get();
+        if (cached != null && cached.etag().equals(currentETag)) {
+            return cached;
+        }
+        final var fresh = serialize(snapshotSupplier.get());
+        // Keep whichever entry is newer if two threads serialized different versions concurrently.
+        return latest.accumulateAndGet(fresh, (previous, next) -> previous == null
+                        || !previous.epoch().equals(next.epoch())
+                        || next.version() >= previous.version()
+                ? next
+                : previous);
+    }
+
+    private Entry serialize(RosterSnapshot snapshot) {
+        final byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(Response.handledWith(snapshot.employees()));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        final var gzip = gzip(json);
+        log.debug("Serialized roster {}: {} bytes, {} gzipped", snapshot.etag(), json.length, gzip.length);
+        return new Entry(snapshot.etag(), snapshot.epoch(), snapshot.version(), json, gzip);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        final var buffer = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (var out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public record Entry(String etag, String epoch, long version, byte[] json, byte[] gzip) {}
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Lock-free token bucket, implemented as the equivalent generic cell rate algorithm: the only state is the theoretical
+ * arrival time of the next request, advanced with a CAS. A full bucket holds `capacity` tokens and one token comes back
+ * every `1 / refillPerSecond`. Each decision also reports what the RateLimit-* and Retry-After headers need.
+ */
+public class TokenBucket {
+
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1, Math.round(1_000_000_000L / refillPerSecond));
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    public Decision tryConsume(long nowNanos) {
+        while (true) {
+            final long tat = theoreticalArrival.get();
+            final long base = Math.max(tat, nowNanos);
+            final long next = base + emissionIntervalNanos;
+            final long allowAt = next - burstNanos;
+            if (nowNanos < allowAt) {
+                return new Decision(
+                        false, capacity, 0, Duration.ofNanos(allowAt - nowNanos), Duration.ofNanos(base - nowNanos));
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                final int remaining = (int) Math.min(capacity, (nowNanos - allowAt) / emissionIntervalNanos);
+                return new Decision(true, capacity, remaining, Duration.ZERO, Duration.ofNanos(next - nowNanos));
+            }
+        }
+    }
+
+    /** Whether the bucket has refilled completely, i.e. holds no trace of past requests. */
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+
+    /**
+     * @param retryAfter how long until a request would be admitted; zero when this one was
+     * @param reset how long until the bucket is full again
+     */
+    public record Decision(boolean allowed, int limit, int remaining, Duration retryAfter, Duration reset) {}
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.server.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Runs with the registered filters, so a profile that fails every request shows what is and is not faulted.
+ */
+@SpringBootTest(properties = "mock.rate-limit.enabled=false")
+@AutoConfigureMockMvc
+class FaultInjectionControllerTest {
+
+    private static final String ALWAYS_FAIL = """
+            {"name": "always-fail", "errorRate": 1, "errorStatus": 503}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void failingProfile_faultsTheApi_butNeverTheAdminEndpoints() throws Exception {
+        mockMvc.perform(put("/admin/faults").contentType(MediaType.APPLICATION_JSON).content(ALWAYS_FAIL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("always-fail"));
+
+        try {
+            mockMvc.perform(get("/api/v1/employee")).andExpect(status().isServiceUnavailable());
+            mockMvc.perform(get("/admin/faults"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.active.name").value("always-fail"));
+        } finally {
+            mockMvc.perform(delete("/admin/faults"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value("none"));
+        }
+        mockMvc.perform(get("/api/v1/employee")).andExpect(status().isOk());
+    }
+
+    @Test
+    void presets_canBeSwitchedByName() throws Exception {
+        try {
+            mockMvc.perform(put("/admin/faults/{name}", "fixed-100ms"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.latency").value("FIXED"));
+            mockMvc.perform(put("/admin/faults/{name}", "nope")).andExpect(status().isNotFound());
+            mockMvc.perform(get("/admin/faults")).andExpect(jsonPath("$.active.name").value("fixed-100ms"));
+        } finally {
+            mockMvc.perform(delete("/admin/faults"));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "mock.rate-limit.enabled=false")
+@AutoConfigureMockMvc
+class MockEmployeeControllerTest {
+
+    private static final String NEW_EMPLOYEE = """
+            {"name": "Feed Reader", "salary": 100, "age": 30, "title": "Engineer"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void changes_afterAWrite_returnTheWriteSinceTheListedVersion() throws Exception {
+        MvcResult roster = mockMvc.perform(get("/api/v1/employee")).andReturn();
+        String epoch = roster.getResponse().getHeader(MockEmployeeController.ROSTER_EPOCH_HEADER);
+        long version = Long.parseLong(roster.getResponse().getHeader(MockEmployeeController.ROSTER_VERSION_HEADER));
+
+        mockMvc.perform(post("/api/v1/employee").contentType(MediaType.APPLICATION_JSON).content(NEW_EMPLOYEE))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/employee/changes")
+                        .param("since", String.valueOf(version))
+                        .param("epoch", epoch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.resync").value(false))
+                .andExpect(jsonPath("$.data.changes[0].version").value(version + 1))
+                .andExpect(jsonPath("$.data.changes[0].type").value("CREATED"))
+                .andExpect(jsonPath("$.data.changes[0].employee.employee_name").value("Feed Reader"));
+    }
+
+    @Test
+    void changes_fromAnotherEpoch_askForResync() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", "0").param("epoch", "previous-run"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.resync").value(true))
+                .andExpect(jsonPath("$.data.changes").isEmpty());
+    }
+
+    @Test
+    void roster_isNotModifiedForItsETag_untilAWriteChangesIt() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/v1/employee").contentType(MediaType.APPLICATION_JSON).content(NEW_EMPLOYEE))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.data[?(@.employee_name == 'Feed Reader')]").exists());
+    }
+
+    @Test
+    void roster_isGzippedOnlyForClientsThatAcceptIt() throws Exception {
+        byte[] identity = mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        byte[] gzipped = mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(in.readAllBytes()).isEqualTo(identity);
+        }
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void lookup_skipsUnknownIds_andAnswersEachKnownIdOnceInRequestOrder() throws Exception {
+        String roster = mockMvc.perform(get("/api/v1/employee"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String first = JsonPath.read(roster, "$.data[0].id");
+        String second = JsonPath.read(roster, "$.data[1].id");
+
+        mockMvc.perform(post("/api/v1/employee/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ids(List.of(second, UUID.randomUUID().toString(), first, second))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].id").value(second))
+                .andExpect(jsonPath("$.data[1].id").value(first));
+    }
+
+    @Test
+    void lookup_acceptsOneToAThousandIds_andRejectsAnythingElse() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ids(randomIds(1000))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isEmpty());
+
+        // Like every failed request on the mock server (MockEmployeeControllerAdvice), a rejected lookup is a 500.
+        mockMvc.perform(post("/api/v1/employee/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ids(randomIds(1001))))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.status").value(Response.Status.ERROR.getValue()))
+                .andExpect(jsonPath("$.data").doesNotExist());
+        mockMvc.perform(post("/api/v1/employee/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ids(List.of())))
+                .andExpect(status().isInternalServerError());
+    }
+
+    private static List<String> randomIds(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(ignored -> UUID.randomUUID().toString())
+                .toList();
+    }
+
+    private static String ids(List<String> ids) {
+        return ids.stream().map(id -> "\"" + id + "\"").collect(Collectors.joining(",", "{\"ids\":[", "]}"));
+    }
+}
@@ -0,0 +1,117 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.MockEmployee;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class EmployeeChangeLogTest {
+
+    @Test
+    void since_returnsEveryLaterChangeInVersionOrder() throws Exception {
+        EmployeeChangeLog log = new EmployeeChangeLog(10);
+        MockEmployee alice = employee("Alice");
+        MockEmployee bob = employee("Bob");
+
+        assertThat(log.append(EmployeeChange.Type.CREATED, alice)).isEqualTo(1);
+        assertThat(log.append(EmployeeChange.Type.CREATED, bob)).isEqualTo(2);
+        assertThat(log.append(EmployeeChange.Type.DELETED, alice)).isEqualTo(3);
+
+        EmployeeChanges changes = log.since(log.getEpoch(), 1, Duration.ZERO);
+
+        assertThat(changes.resync()).isFalse();
+        assertThat(changes.version()).isEqualTo(3);
+        assertThat(changes.changes()).extracting(EmployeeChange::version).containsExactly(2L, 3L);
+        assertThat(changes.changes())
+                .extracting(EmployeeChange::type)
+                .containsExactly(EmployeeChange.Type.CREATED, EmployeeChange.Type.DELETED);
+    }
+
+    @Test
+    void onlyTheMostRecentChangesAreRetained_olderReadersResync() throws Exception {
+        EmployeeChangeLog log = new EmployeeChangeLog(3);
+        for (int i = 0; i < 5; i++) {
+            log.append(EmployeeChange.Type.CREATED, employee("E" + i));
+        }
+
+        // Versions 3 to 5 are retained: a reader at 2 can catch up, a reader at 1 has missed version 2.
+        assertThat(log.since(log.getEpoch(), 2, Duration.ZERO).changes())
+                .extracting(EmployeeChange::version)
+                .containsExactly(3L, 4L, 5L);
+        assertThat(log.since(log.getEpoch(), 1, Duration.ZERO).resync()).isTrue();
+        assertThat(log.since(log.getEpoch(), 0, Duration.ZERO).resync()).isTrue();
+    }
+
+    @Test
+    void anotherEpochOrAFutureVersion_asksForResync() throws Exception {
+        EmployeeChangeLog log = new EmployeeChangeLog(10);
+        log.append(EmployeeChange.Type.CREATED, employee("Alice"));
+
+        EmployeeChanges otherRun = log.since(UUID.randomUUID().toString(), 0, Duration.ZERO);
+        assertThat(otherRun.resync()).isTrue();
+        assertThat(otherRun.epoch()).isEqualTo(log.getEpoch());
+        assertThat(otherRun.version()).isEqualTo(1);
+
+        assertThat(log.since(null, 0, Duration.ZERO).resync()).isTrue();
+        assertThat(log.since(log.getEpoch(), 2, Duration.ZERO).resync()).isTrue();
+    }
+
+    @Test
+    void upToDateReader_withoutWait_getsNoChangesAtOnce() throws Exception {
+        EmployeeChangeLog log = new EmployeeChangeLog(10);
+        log.append(EmployeeChange.Type.CREATED, employee("Alice"));
+
+        EmployeeChanges changes = log.since(log.getEpoch(), 1, Duration.ZERO);
+
+        assertThat(changes.resync()).isFalse();
+        assertThat(changes.version()).isEqualTo(1);
+        assertThat(changes.changes()).isEmpty();
+    }
+
+    @Test
+    void longPoll_wakesUpOnTheNextAppend() throws Exception {
+        EmployeeChangeLog log = new EmployeeChangeLog(10);
+        long start = System.nanoTime();
+        CompletableFuture<EmployeeChanges> poll =
+                CompletableFuture.supplyAsync(() -> since(log, 0, Duration.ofSeconds(10)));
+
+        Thread.sleep(100);
+        assertThat(poll).isNotDone();
+        log.append(EmployeeChange.Type.CREATED, employee("Alice"));
+
+        EmployeeChanges changes = poll.get(5, TimeUnit.SECONDS);
+        assertThat(changes.changes()).extracting(EmployeeChange::version).containsExactly(1L);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void longPoll_returnsEmptyWhenTheWaitRunsOut() throws Exception {
+        EmployeeChangeLog log = new EmployeeChangeLog(10);
+        long start = System.nanoTime();
+
+        EmployeeChanges changes = log.since(log.getEpoch(), 0, Duration.ofMillis(150));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(140));
+        assertThat(changes.resync()).isFalse();
+        assertThat(changes.changes()).isEmpty();
+    }
+
+    private static EmployeeChanges since(EmployeeChangeLog log, long version, Duration maxWait) {
+        try {
+            return log.since(log.getEpoch(), version, maxWait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder().id(UUID.randomUUID()).name(name).build();
+    }
+}
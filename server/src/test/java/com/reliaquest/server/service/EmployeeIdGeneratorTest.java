@@ -0,0 +1,55 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeIdGeneratorTest {
+
+    /*
+     * Owning shard among three for fixed ids, two with negative hash codes. The api's ShardedEmployeeClientTest asserts
+     * the same table against EmployeeClient.shardIndexOf, so both sides of the routing contract are pinned to it.
+     */
+    static final Map<String, Integer> SHARD_OF_THREE = Map.of(
+            "00000000-0000-0000-0000-000000000000", 0,
+            "00000000-0000-0000-0000-000000000001", 1,
+            "00000000-0000-0000-0000-000000000002", 2,
+            "3f2504e0-4f89-11d3-9a0c-0305e82c3301", 0,
+            "7d444840-9dc0-11d1-b245-5ffdce74fad2", 1,
+            "f47ac10b-58cc-4372-a567-0e02b2c3d479", 0);
+
+    @Test
+    void next_onlyHandsOutIdsOwnedByItsShard() {
+        for (int index = 0; index < 3; index++) {
+            EmployeeIdGenerator generator = new EmployeeIdGenerator(3, index);
+            for (int i = 0; i < 200; i++) {
+                assertThat(EmployeeIdGenerator.shardOf(generator.next(), 3)).isEqualTo(index);
+            }
+        }
+    }
+
+    @Test
+    void shardOf_matchesTheRoutingTable() {
+        SHARD_OF_THREE.forEach((id, shard) ->
+                assertThat(EmployeeIdGenerator.shardOf(UUID.fromString(id), 3)).as(id).isEqualTo(shard));
+    }
+
+    @Test
+    void singleShard_ownsEveryId() {
+        EmployeeIdGenerator generator = new EmployeeIdGenerator(1, 0);
+
+        assertThat(EmployeeIdGenerator.shardOf(generator.next(), 1)).isZero();
+        SHARD_OF_THREE.keySet().forEach(id -> assertThat(EmployeeIdGenerator.shardOf(UUID.fromString(id), 1))
+                .isZero());
+    }
+
+    @Test
+    void rejectsAnIndexOutsideTheShardCount() {
+        assertThatThrownBy(() -> new EmployeeIdGenerator(0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EmployeeIdGenerator(3, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EmployeeIdGenerator(3, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.FaultProfile.LatencyDistribution;
+import org.junit.jupiter.api.Test;
+
+class FaultInjectorTest {
+
+    @Test
+    void startsWithTheConfiguredPreset_andRejectsUnknownOnes() {
+        assertThat(new FaultInjector("flaky").active().name()).isEqualTo("flaky");
+        assertThatThrownBy(() -> new FaultInjector("nope")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void activate_switchesPresetsAndCustomProfiles() {
+        FaultInjector injector = new FaultInjector("none");
+
+        assertThat(injector.activate("bimodal")).map(FaultProfile::name).contains("bimodal");
+        assertThat(injector.active().name()).isEqualTo("bimodal");
+        assertThat(injector.activate("nope")).isEmpty();
+        assertThat(injector.active().name()).isEqualTo("bimodal");
+
+        FaultProfile custom = profile(LatencyDistribution.FIXED, 5, 0, 0, 0);
+        injector.activate(custom);
+        assertThat(injector.active()).isEqualTo(custom);
+    }
+
+    @Test
+    void sampleLatency_followsTheDistribution() {
+        FaultInjector injector = new FaultInjector("none");
+
+        assertThat(injector.sampleLatencyMillis(FaultProfile.NONE)).isZero();
+        assertThat(injector.sampleLatencyMillis(profile(LatencyDistribution.FIXED, 40, 0, 0, 0)))
+                .isEqualTo(40);
+        assertThat(injector.sampleLatencyMillis(new FaultProfile(
+                        "slow", LatencyDistribution.BIMODAL, 20, 0, 1000, 1, 0, 0, 0, 0)))
+                .isEqualTo(1000);
+        assertThat(injector.sampleLatencyMillis(new FaultProfile(
+                        "fast", LatencyDistribution.BIMODAL, 20, 0, 1000, 0, 0, 0, 0, 0)))
+                .isEqualTo(20);
+        // Zero sigma collapses the log-normal onto its median.
+        assertThat(injector.sampleLatencyMillis(profile(LatencyDistribution.LOG_NORMAL, 50, 0, 0, 0)))
+                .isEqualTo(50);
+    }
+
+    @Test
+    void errorAndTruncationRates_atTheBoundsAreDeterministic() {
+        FaultInjector injector = new FaultInjector("none");
+
+        assertThat(injector.shouldFail(profile(LatencyDistribution.NONE, 0, 1, 0, 0))).isTrue();
+        assertThat(injector.shouldFail(profile(LatencyDistribution.NONE, 0, 0, 0, 0))).isFalse();
+        assertThat(injector.shouldTruncate(profile(LatencyDistribution.NONE, 0, 0, 1, 0))).isTrue();
+        assertThat(injector.shouldTruncate(profile(LatencyDistribution.NONE, 0, 0, 0, 0))).isFalse();
+    }
+
+    @Test
+    void invalidProfiles_areRejected() {
+        assertThatThrownBy(() -> profile(LatencyDistribution.NONE, 0, 1.5, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FaultProfile("x", LatencyDistribution.NONE, 0, 0, 0, 0, 0.5, 200, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static FaultProfile profile(
+            LatencyDistribution latency, long latencyMillis, double errorRate, double truncateRate, int drip) {
+        return new FaultProfile("test", latency, latencyMillis, 0, 0, 0, errorRate, 503, truncateRate, drip);
+    }
+}
@@ -0,0 +1,145 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.RosterSnapshot;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private static final int INITIAL = 5;
+
+    private final EmployeeChangeLog changeLog = new EmployeeChangeLog(10_000);
+    private final MockEmployeeService service = service(changeLog);
+
+    @Test
+    void everyWriteIsOneChange_andSnapshotsMatchTheirVersion() throws Exception {
+        RosterSnapshot before = service.snapshot();
+        service.create(input("Alice"));
+        service.createAll(List.of(input("Bob"), input("Carol")));
+        assertThat(service.delete(delete("alice"))).isTrue();
+        assertThat(service.delete(delete("nobody"))).isFalse();
+
+        RosterSnapshot after = service.snapshot();
+        assertThat(after.version()).isEqualTo(before.version() + 4);
+        assertThat(after.etag()).isEqualTo(service.currentETag()).isNotEqualTo(before.etag());
+        EmployeeChanges changes = service.changesSince(before.epoch(), before.version(), Duration.ZERO);
+        assertThat(replay(before, changes, after.version()))
+                .containsExactlyElementsOf(ids(after));
+    }
+
+    @Test
+    void concurrentWrites_keepTheFeedAndTheSnapshotsConsistent() throws Exception {
+        RosterSnapshot start = service.snapshot();
+        int writers = 8;
+        int createsPerWriter = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            // Every snapshot taken while writers run is exactly the feed replayed up to the snapshot's version.
+            Future<Integer> reader = executor.submit(() -> {
+                int checked = 0;
+                while (writing.get()) {
+                    RosterSnapshot snapshot = service.snapshot();
+                    EmployeeChanges feed = service.changesSince(start.epoch(), start.version(), Duration.ZERO);
+                    assertThat(replay(start, feed, snapshot.version())).containsExactlyElementsOf(ids(snapshot));
+                    checked++;
+                }
+                return checked;
+            });
+            List<Future<?>> writes = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                writes.add(executor.submit(() -> {
+                    for (int i = 0; i < createsPerWriter; i++) {
+                        service.create(input("W" + writer + "-" + i));
+                        if (i % 2 == 1) {
+                            assertThat(service.delete(delete("W" + writer + "-" + (i - 1)))).isTrue();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> write : writes) {
+                write.get();
+            }
+            writing.set(false);
+            assertThat(reader.get()).isPositive();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int writes = writers * (createsPerWriter + createsPerWriter / 2);
+        RosterSnapshot end = service.snapshot();
+        EmployeeChanges changes = service.changesSince(start.epoch(), start.version(), Duration.ZERO);
+        assertThat(end.version()).isEqualTo(start.version() + writes);
+        assertThat(end.employees()).hasSize(INITIAL + writers * createsPerWriter / 2);
+        assertThat(changes.changes()).hasSize(writes);
+        assertThat(changes.changes()).extracting(EmployeeChange::version).isSorted().doesNotHaveDuplicates();
+        assertThat(replay(start, changes, end.version())).containsExactlyElementsOf(ids(end));
+    }
+
+    /** Applies {@code changes} up to {@code version} to {@code base} the way a client of the feed does. */
+    private static List<UUID> replay(RosterSnapshot base, EmployeeChanges changes, long version) {
+        assertThat(changes.resync()).isFalse();
+        Map<UUID, MockEmployee> roster = new LinkedHashMap<>();
+        base.employees().forEach(employee -> roster.put(employee.getId(), employee));
+        for (EmployeeChange change : changes.changes()) {
+            if (change.version() > version) {
+                break;
+            }
+            if (change.type() == EmployeeChange.Type.DELETED) {
+                roster.remove(change.employee().getId());
+            } else {
+                roster.put(change.employee().getId(), change.employee());
+            }
+        }
+        return List.copyOf(roster.keySet());
+    }
+
+    private static List<UUID> ids(RosterSnapshot snapshot) {
+        return snapshot.employees().stream().map(MockEmployee::getId).toList();
+    }
+
+    private static MockEmployeeService service(EmployeeChangeLog changeLog) {
+        List<MockEmployee> roster = new ArrayList<>();
+        for (int i = 0; i < INITIAL; i++) {
+            roster.add(MockEmployee.builder().id(UUID.randomUUID()).name("Initial " + i).build());
+        }
+        MockEmployeeService service =
+                new MockEmployeeService(new Faker(Locale.ROOT), roster, changeLog, new EmployeeIdGenerator(1, 0));
+        service.indexEmployees();
+        return service;
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(100);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput delete(String name) {
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}
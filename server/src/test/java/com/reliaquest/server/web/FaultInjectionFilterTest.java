@@ -0,0 +1,84 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.FaultProfile.LatencyDistribution;
+import com.reliaquest.server.service.FaultInjector;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FaultInjectionFilterTest {
+
+    private static final byte[] BODY = "x".repeat(100).getBytes();
+
+    private final FaultInjector faultInjector = new FaultInjector("none");
+    private final FaultInjectionFilter filter = new FaultInjectionFilter(faultInjector, new ObjectMapper());
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private boolean handled;
+
+    @Test
+    void noProfile_passesTheRequestThroughUntouched() throws Exception {
+        run();
+
+        assertThat(handled).isTrue();
+        assertThat(response.getContentAsByteArray()).isEqualTo(BODY);
+    }
+
+    @Test
+    void injectedError_answersWithTheProfileStatus_withoutRunningTheHandler() throws Exception {
+        faultInjector.activate(profile(LatencyDistribution.NONE, 0, 1, 0));
+
+        run();
+
+        assertThat(handled).isFalse();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getContentAsString()).contains("Injected fault: test");
+    }
+
+    @Test
+    void injectedLatency_delaysTheRequest() throws Exception {
+        faultInjector.activate(profile(LatencyDistribution.FIXED, 50, 0, 0));
+
+        long start = System.nanoTime();
+        run();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(50);
+        assertThat(handled).isTrue();
+    }
+
+    @Test
+    void truncation_flushesHalfTheBody_thenResetsTheConnection() {
+        faultInjector.activate(profile(LatencyDistribution.NONE, 0, 0, 1));
+
+        assertThatThrownBy(this::run).isInstanceOf(IOException.class).hasMessageContaining("reset");
+        assertThat(handled).isTrue();
+        assertThat(response.getContentAsByteArray()).hasSize(BODY.length / 2);
+    }
+
+    private void run() throws Exception {
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                handled = true;
+                response.setContentLength(BODY.length);
+                response.getOutputStream().write(BODY);
+            }
+        };
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee"), response, new MockFilterChain(servlet));
+    }
+
+    private static FaultProfile profile(
+            LatencyDistribution latency, long latencyMillis, double errorRate, double truncateRate) {
+        return new FaultProfile("test", latency, latencyMillis, 0, 0, 0, errorRate, 503, truncateRate, 0);
+    }
+}
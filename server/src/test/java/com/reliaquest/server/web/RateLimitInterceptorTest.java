@@ -0,0 +1,83 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimitInterceptorTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void admittedRequests_carryTheRateLimitHeaders() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(3, 1, null, now::get);
+
+        MockHttpServletResponse first = handle(interceptor, request(null));
+        MockHttpServletResponse second = handle(interceptor, request(null));
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeader(RateLimitInterceptor.LIMIT_HEADER)).isEqualTo("3");
+        assertThat(first.getHeader(RateLimitInterceptor.REMAINING_HEADER)).isEqualTo("2");
+        assertThat(first.getHeader(RateLimitInterceptor.RESET_HEADER)).isEqualTo("1");
+        assertThat(first.getHeader("Retry-After")).isNull();
+        assertThat(second.getHeader(RateLimitInterceptor.REMAINING_HEADER)).isEqualTo("1");
+        assertThat(second.getHeader(RateLimitInterceptor.RESET_HEADER)).isEqualTo("2");
+    }
+
+    @Test
+    void requestsBeyondTheBurst_get429WithRetryAfter_untilTheBucketRefills() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(2, 0.5, null, now::get);
+        handle(interceptor, request(null));
+        handle(interceptor, request(null));
+
+        now.set(SECOND / 2);
+        MockHttpServletResponse rejected = handle(interceptor, request(null));
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(RateLimitInterceptor.REMAINING_HEADER)).isEqualTo("0");
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(rejected.getHeader(RateLimitInterceptor.RESET_HEADER)).isEqualTo("4");
+
+        now.set(2 * SECOND);
+        assertThat(handle(interceptor, request(null)).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void perClientLimits_keepABucketPerKey_fallingBackToTheRemoteAddress() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(1, 1, "X-Client-Id", now::get);
+
+        assertThat(handle(interceptor, request("a")).getStatus()).isEqualTo(200);
+        assertThat(handle(interceptor, request("a")).getStatus()).isEqualTo(429);
+        assertThat(handle(interceptor, request("b")).getStatus()).isEqualTo(200);
+        assertThat(handle(interceptor, request(null)).getStatus()).isEqualTo(200);
+        assertThat(handle(interceptor, request(null)).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void sharedLimit_ignoresTheClientHeader() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(1, 1, null, now::get);
+
+        assertThat(handle(interceptor, request("a")).getStatus()).isEqualTo(200);
+        assertThat(handle(interceptor, request("b")).getStatus()).isEqualTo(429);
+    }
+
+    private static MockHttpServletRequest request(String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        return request;
+    }
+
+    private static MockHttpServletResponse handle(RateLimitInterceptor interceptor, MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+        assertThat(proceed).isEqualTo(response.getStatus() != 429);
+        return response;
+    }
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.RosterSnapshot;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+class SerializedRosterCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SerializedRosterCache cache = new SerializedRosterCache(objectMapper);
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    @Test
+    void sameVersion_isServedFromTheCache() {
+        RosterSnapshot v1 = snapshot(1, "Alice");
+
+        SerializedRosterCache.Entry first = cache.get(v1.etag(), counting(v1));
+        SerializedRosterCache.Entry second = cache.get(v1.etag(), counting(v1));
+
+        assertThat(second).isSameAs(first);
+        assertThat(serializations).hasValue(1);
+    }
+
+    @Test
+    void aWrite_newVersion_replacesTheCachedBody() throws Exception {
+        RosterSnapshot v1 = snapshot(1, "Alice");
+        RosterSnapshot v2 = snapshot(2, "Alice", "Bob");
+
+        cache.get(v1.etag(), counting(v1));
+        SerializedRosterCache.Entry entry = cache.get(v2.etag(), counting(v2));
+
+        assertThat(serializations).hasValue(2);
+        assertThat(entry.etag()).isEqualTo(v2.etag());
+        assertThat(objectMapper.readTree(entry.json()).get("data")).hasSize(2);
+        assertThat(cache.get(v2.etag(), counting(v2))).isSameAs(entry);
+    }
+
+    @Test
+    void anOlderVersionServedLate_doesNotReplaceANewerOne() {
+        RosterSnapshot v1 = snapshot(1, "Alice");
+        RosterSnapshot v2 = snapshot(2, "Alice", "Bob");
+
+        SerializedRosterCache.Entry newer = cache.get(v2.etag(), counting(v2));
+        cache.get(v1.etag(), counting(v1));
+
+        assertThat(cache.get(v2.etag(), counting(v2))).isSameAs(newer);
+        assertThat(serializations).hasValue(2);
+    }
+
+    @Test
+    void gzipBody_inflatesToTheJsonBody() throws Exception {
+        RosterSnapshot v1 = snapshot(1, "Alice", "Bob");
+
+        SerializedRosterCache.Entry entry = cache.get(v1.etag(), counting(v1));
+
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(entry.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(entry.json());
+        }
+    }
+
+    private Supplier<RosterSnapshot> counting(RosterSnapshot snapshot) {
+        return () -> {
+            serializations.incrementAndGet();
+            return snapshot;
+        };
+    }
+
+    private static RosterSnapshot snapshot(long version, String... names) {
+        List<MockEmployee> employees = Arrays.stream(names)
+                .map(name -> MockEmployee.builder().id(UUID.randomUUID()).name(name).build())
+                .toList();
+        return new RosterSnapshot("epoch", version, employees);
+    }
+}
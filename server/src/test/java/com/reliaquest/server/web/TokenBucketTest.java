@@ -0,0 +1,73 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void fullBucket_admitsItsCapacityAsABurst_countingDownRemaining() {
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        assertThat(bucket.tryConsume(0).remaining()).isEqualTo(2);
+        assertThat(bucket.tryConsume(0).remaining()).isEqualTo(1);
+        TokenBucket.Decision last = bucket.tryConsume(0);
+
+        assertThat(last.allowed()).isTrue();
+        assertThat(last.remaining()).isZero();
+        assertThat(last.limit()).isEqualTo(3);
+        assertThat(last.reset()).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void emptyBucket_rejectsUntilATokenRefills() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        TokenBucket.Decision rejected = bucket.tryConsume(SECOND / 4);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfter()).isEqualTo(Duration.ofMillis(750));
+        assertThat(rejected.reset()).isEqualTo(Duration.ofMillis(1750));
+
+        TokenBucket.Decision refilled = bucket.tryConsume(SECOND);
+        assertThat(refilled.allowed()).isTrue();
+        assertThat(refilled.retryAfter()).isZero();
+    }
+
+    @Test
+    void rejectedRequests_doNotConsumeTokens() {
+        TokenBucket bucket = new TokenBucket(1, 1, 0);
+        bucket.tryConsume(0);
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryConsume(SECOND / 2).allowed()).isFalse();
+        }
+
+        assertThat(bucket.tryConsume(SECOND).allowed()).isTrue();
+    }
+
+    @Test
+    void idleBucket_refillsToCapacityButNotBeyond() {
+        TokenBucket bucket = new TokenBucket(3, 2, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertThat(bucket.isFull(SECOND)).isFalse();
+        assertThat(bucket.isFull(3 * SECOND / 2)).isTrue();
+        assertThat(bucket.tryConsume(60 * SECOND).remaining()).isEqualTo(2);
+    }
+
+    @Test
+    void nonPositiveSettings_areRejected() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}